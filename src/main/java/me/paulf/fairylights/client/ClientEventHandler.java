@@ -4,7 +4,11 @@ import com.google.common.base.Strings;
 import com.google.common.collect.Sets;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
+import me.paulf.fairylights.client.renderer.block.entity.FastenerRenderer;
+import me.paulf.fairylights.client.renderer.block.entity.LightBatch;
+import me.paulf.fairylights.client.renderer.block.entity.RenderStatistics;
 import me.paulf.fairylights.server.collision.Collidable;
+import me.paulf.fairylights.server.collision.CollisionStatistics;
 import me.paulf.fairylights.server.collision.Intersection;
 import me.paulf.fairylights.server.connection.Connection;
 import me.paulf.fairylights.server.connection.HangingLightsConnection;
@@ -12,11 +16,16 @@ import me.paulf.fairylights.server.connection.PlayerAction;
 import me.paulf.fairylights.server.entity.FenceFastenerEntity;
 import me.paulf.fairylights.server.fastener.CollectFastenersEvent;
 import me.paulf.fairylights.server.fastener.Fastener;
+import me.paulf.fairylights.server.fastener.FastenerIndex;
 import me.paulf.fairylights.server.fastener.FastenerType;
+import me.paulf.fairylights.server.feature.light.ColorCycle;
+import me.paulf.fairylights.server.feature.light.LightClock;
+import me.paulf.fairylights.server.feature.light.ParticleBudget;
 import me.paulf.fairylights.server.jingle.Jingle;
 import me.paulf.fairylights.util.Curve;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.GuiGraphics;
+import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.renderer.LevelRenderer;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.RenderType;
@@ -26,6 +35,7 @@ import net.minecraft.network.PacketListener;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.util.Mth;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.damagesource.DamageSource;
@@ -34,14 +44,16 @@ import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.chunk.ChunkSource;
-import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.EntityHitResult;
 import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.client.event.CustomizeGuiOverlayEvent;
 import net.minecraftforge.client.event.RenderHighlightEvent;
+import net.minecraftforge.client.event.RenderLevelStageEvent;
 import net.minecraftforge.client.gui.overlay.ForgeGui;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.joml.Vector3f;
 
@@ -52,6 +64,14 @@ import java.util.Set;
 public final class ClientEventHandler {
     private static final float HIGHLIGHT_ALPHA = 0.4F;
 
+    private static final PickCache PICK_CACHE = new PickCache();
+
+    private static final CollisionStatistics PICK_STATISTICS = new CollisionStatistics();
+
+    private static int pickedFasteners;
+
+    private static boolean pickCached;
+
     @Nullable
     public static Connection getHitConnection() {
         final net.minecraft.world.phys.HitResult result = Minecraft.getInstance().hitResult;
@@ -91,12 +111,23 @@ public final class ClientEventHandler {
     public static void updateHitConnection() {
         final Minecraft mc = Minecraft.getInstance();
         final Entity viewer = mc.getCameraEntity();
-        if (mc.hitResult != null && mc.level != null && viewer != null) {
-            final HitResult result = getHitConnection(mc.level, viewer);
+        if (mc.hitResult != null && mc.level != null && viewer != null && mc.gameMode != null) {
+            final Vec3 eyes = viewer.getEyePosition(1.0F);
+            final Vec3 look = viewer.getLookAngle();
+            final double reach = mc.gameMode.getPickRange();
+            final int epoch = FastenerIndex.get(mc.level).getEpoch();
+            final PickCache cache = PICK_CACHE;
+            pickCached = cache.matches(mc.level, epoch, eyes, look, reach);
+            if (!pickCached) {
+                final ProfilerFiller profiler = mc.level.getProfiler();
+                profiler.push("fairylights_pick");
+                cache.update(mc.level, epoch, eyes, look, reach, getHitConnection(mc.level, viewer, eyes, look, reach));
+                profiler.pop();
+            }
+            final HitResult result = cache.result;
             if (result != null) {
-                final Vec3 eyes = viewer.getEyePosition(1.0F);
                 if (result.intersection.getResult().distanceTo(eyes) < mc.hitResult.getLocation().distanceTo(eyes)) {
-                    mc.hitResult = new EntityHitResult(new HitConnection(mc.level, result));
+                    mc.hitResult = cache.getEntityHitResult();
                     mc.crosshairPickEntity = null;
                 }
             }
@@ -104,42 +135,32 @@ public final class ClientEventHandler {
     }
 
     @Nullable
-    private static HitResult getHitConnection(final Level world, final Entity viewer) {
+    private static HitResult getHitConnection(final Level world, final Entity viewer, final Vec3 origin, final Vec3 look, final double reach) {
+        final ProfilerFiller profiler = world.getProfiler();
+        profiler.push("collect");
         final AABB bounds = new AABB(viewer.blockPosition()).inflate(Connection.MAX_LENGTH + 1.0D);
         final Set<Fastener<?>> fasteners = collectFasteners(world, bounds);
-        return getHitConnection(viewer, bounds, fasteners);
+        profiler.popPush("intersect");
+        PICK_STATISTICS.reset();
+        pickedFasteners = fasteners.size();
+        final HitResult result = getHitConnection(fasteners, origin, look, reach);
+        profiler.pop();
+        return result;
     }
 
     private static Set<Fastener<?>> collectFasteners(final Level world, final AABB bounds) {
         final Set<Fastener<?>> fasteners = Sets.newLinkedHashSet();
         final CollectFastenersEvent event = new CollectFastenersEvent(world, bounds, fasteners);
-        world.getEntitiesOfClass(FenceFastenerEntity.class, bounds)
-            .forEach(event::accept);
-        final int minX = Mth.floor(bounds.minX / 16.0D);
-        final int maxX = Mth.ceil(bounds.maxX / 16.0D);
-        final int minZ = Mth.floor(bounds.minZ / 16.0D);
-        final int maxZ = Mth.ceil(bounds.maxZ / 16.0D);
-        final ChunkSource provider = world.getChunkSource();
-        for (int x = minX; x < maxX; x++) {
-            for (int z = minZ; z < maxZ; z++) {
-                final LevelChunk chunk = provider.getChunk(x, z, false);
-                if (chunk != null) {
-                    event.accept(chunk);
-                }
-            }
-        }
+        FastenerIndex.get(world).forEach(bounds, event::accept);
         MinecraftForge.EVENT_BUS.post(event);
         return fasteners;
     }
 
     @Nullable
-    private static HitResult getHitConnection(final Entity viewer, final AABB bounds, final Set<Fastener<?>> fasteners) {
+    private static HitResult getHitConnection(final Set<Fastener<?>> fasteners, final Vec3 origin, final Vec3 look, final double reach) {
         if (fasteners.isEmpty()) {
             return null;
         }
-        final Vec3 origin = viewer.getEyePosition(1);
-        final Vec3 look = viewer.getLookAngle();
-        final double reach = Minecraft.getInstance().gameMode.getPickRange();
         final Vec3 end = origin.add(look.x * reach, look.y * reach, look.z * reach);
         Connection found = null;
         Intersection rayTrace = null;
@@ -150,7 +171,7 @@ public final class ClientEventHandler {
                     continue;
                 }
                 final Collidable collision = connection.getCollision();
-                final Intersection result = collision.intersect(origin, end);
+                final Intersection result = collision.intersect(origin, end, PICK_STATISTICS);
                 if (result != null) {
                     final double dist = result.getResult().distanceTo(origin);
                     if (dist < distance) {
@@ -167,6 +188,96 @@ public final class ClientEventHandler {
         return new HitResult(found, rayTrace);
     }
 
+    @SubscribeEvent
+    public void onWorldUnload(final LevelEvent.Unload event) {
+        if (event.getLevel() == PICK_CACHE.world) {
+            PICK_CACHE.clear();
+        }
+        if (event.getLevel().isClientSide()) {
+            ParticleBudget.clear();
+        }
+    }
+
+    @SubscribeEvent
+    public void onDebugText(final CustomizeGuiOverlayEvent.DebugText event) {
+        event.getLeft().add(String.format(
+            "Fairy Lights pick: %d fasteners, %d trees, %d nodes%s",
+            pickedFasteners,
+            PICK_STATISTICS.getTrees(),
+            PICK_STATISTICS.getNodes(),
+            pickCached ? " (cached)" : ""
+        ));
+        final RenderStatistics statistics = RenderStatistics.INSTANCE;
+        event.getLeft().add(String.format(
+            "Fairy Lights render: %d connections, %d lights, %d vertices, %.2f ms",
+            statistics.getConnections(),
+            statistics.getLights(),
+            statistics.getVertices(),
+            statistics.getNanos() / 1.0e6D
+        ));
+    }
+
+    @SubscribeEvent
+    public void onClientTick(final TickEvent.ClientTickEvent event) {
+        if (event.phase == TickEvent.Phase.START) {
+            TickCulling.update(Minecraft.getInstance());
+        }
+    }
+
+    @SubscribeEvent
+    public void onRenderTick(final TickEvent.RenderTickEvent event) {
+        if (event.phase == TickEvent.Phase.START) {
+            ColorCycle.startFrame();
+            ItemTints.startFrame();
+            final ClientLevel level = Minecraft.getInstance().level;
+            if (level != null) {
+                LightClock.CLIENT.startFrame(FLClientConfig.RENDERING.deterministicLights.get(), level.getGameTime(), event.renderTickTime);
+                ParticleBudget.flush(level, Minecraft.getInstance().gameRenderer.getMainCamera().getPosition(), FLClientConfig.RENDERING.particleBudget.get());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public void onRenderLevelStage(final RenderLevelStageEvent event) {
+        final RenderLevelStageEvent.Stage stage = event.getStage();
+        if (stage == RenderLevelStageEvent.Stage.AFTER_SKY) {
+            FastenerRenderer.setFrustum(event.getFrustum());
+            RenderStatistics.INSTANCE.startFrame();
+            LightBatch.INSTANCE.clear();
+        } else if (stage == RenderLevelStageEvent.Stage.AFTER_BLOCK_ENTITIES) {
+            LightBatch.INSTANCE.flush();
+        } else if (stage == RenderLevelStageEvent.Stage.AFTER_TRANSLUCENT_BLOCKS && FLClientConfig.DEBUG.renderCollisionTrees.get()) {
+            this.renderCollisionTrees(event);
+        }
+    }
+
+    private void renderCollisionTrees(final RenderLevelStageEvent event) {
+        final Minecraft mc = Minecraft.getInstance();
+        if (mc.level == null) {
+            return;
+        }
+        final Vec3 pos = event.getCamera().getPosition();
+        final PoseStack matrix = event.getPoseStack();
+        final MultiBufferSource.BufferSource source = mc.renderBuffers().bufferSource();
+        final VertexConsumer buf = source.getBuffer(RenderType.lines());
+        final Collidable.BoundsVisitor visitor = (box, depth, leaf) -> {
+            final AABB bb = box.move(-pos.x, -pos.y, -pos.z);
+            if (leaf) {
+                LevelRenderer.renderLineBox(matrix, buf, bb, 1.0F, 1.0F, 0.0F, 1.0F);
+            } else {
+                final float shade = 1.0F / (depth + 1);
+                LevelRenderer.renderLineBox(matrix, buf, bb, shade, shade, shade, 1.0F);
+            }
+        };
+        final AABB bounds = new AABB(pos, pos).inflate(Connection.MAX_LENGTH + 1.0D);
+        FastenerIndex.get(mc.level).forEach(bounds, fastener -> {
+            for (final Connection connection : fastener.getOwnConnections()) {
+                connection.getCollision().visitBounds(visitor);
+            }
+        });
+        source.endBatch(RenderType.lines());
+    }
+
     @SubscribeEvent
     public void drawBlockHighlight(final RenderHighlightEvent.Entity event) {
         final Entity entity = event.getTarget().getEntity();
@@ -372,4 +483,69 @@ public final class ClientEventHandler {
             this.intersection = intersection;
         }
     }
+
+    /**
+     * The last connection pick, reused while the viewer's eyes, look and reach
+     * and the level's fastener epoch are unchanged so that an idle viewer does
+     * not raycast every connection nearby each frame.
+     */
+    private static final class PickCache {
+        private static final double EPSILON = 1.0e-6D;
+
+        @Nullable
+        private Level world;
+
+        private int epoch;
+
+        private double eyeX, eyeY, eyeZ;
+
+        private double lookX, lookY, lookZ;
+
+        private double reach;
+
+        @Nullable
+        private HitResult result;
+
+        @Nullable
+        private EntityHitResult entityHitResult;
+
+        boolean matches(final Level world, final int epoch, final Vec3 eyes, final Vec3 look, final double reach) {
+            return this.world == world &&
+                this.epoch == epoch &&
+                this.reach == reach &&
+                Math.abs(this.eyeX - eyes.x) < EPSILON &&
+                Math.abs(this.eyeY - eyes.y) < EPSILON &&
+                Math.abs(this.eyeZ - eyes.z) < EPSILON &&
+                Math.abs(this.lookX - look.x) < EPSILON &&
+                Math.abs(this.lookY - look.y) < EPSILON &&
+                Math.abs(this.lookZ - look.z) < EPSILON;
+        }
+
+        void update(final Level world, final int epoch, final Vec3 eyes, final Vec3 look, final double reach, @Nullable final HitResult result) {
+            this.world = world;
+            this.epoch = epoch;
+            this.eyeX = eyes.x;
+            this.eyeY = eyes.y;
+            this.eyeZ = eyes.z;
+            this.lookX = look.x;
+            this.lookY = look.y;
+            this.lookZ = look.z;
+            this.reach = reach;
+            this.result = result;
+            this.entityHitResult = null;
+        }
+
+        void clear() {
+            this.world = null;
+            this.result = null;
+            this.entityHitResult = null;
+        }
+
+        EntityHitResult getEntityHitResult() {
+            if (this.entityHitResult == null) {
+                this.entityHitResult = new EntityHitResult(new HitConnection(this.world, this.result));
+            }
+            return this.entityHitResult;
+        }
+    }
 }
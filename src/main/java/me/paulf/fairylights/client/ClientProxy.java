@@ -16,6 +16,7 @@ import me.paulf.fairylights.client.model.light.HeartLightModel;
 import me.paulf.fairylights.client.model.light.IcicleLightsModel;
 import me.paulf.fairylights.client.model.light.IncandescentLightModel;
 import me.paulf.fairylights.client.model.light.JackOLanternLightModel;
+import me.paulf.fairylights.client.model.light.LightBlockModel;
 import me.paulf.fairylights.client.model.light.MeteorLightModel;
 import me.paulf.fairylights.client.model.light.MoonLightModel;
 import me.paulf.fairylights.client.model.light.OilLanternModel;
@@ -27,6 +28,7 @@ import me.paulf.fairylights.client.model.light.SpiderLightModel;
 import me.paulf.fairylights.client.model.light.StarLightModel;
 import me.paulf.fairylights.client.model.light.WitchLightModel;
 import me.paulf.fairylights.client.renderer.block.entity.FastenerBlockEntityRenderer;
+import me.paulf.fairylights.client.renderer.block.entity.FastenerRenderer;
 import me.paulf.fairylights.client.renderer.block.entity.GarlandTinselRenderer;
 import me.paulf.fairylights.client.renderer.block.entity.GarlandVineRenderer;
 import me.paulf.fairylights.client.renderer.block.entity.HangingLightsRenderer;
@@ -36,17 +38,16 @@ import me.paulf.fairylights.client.renderer.block.entity.PennantBuntingRenderer;
 import me.paulf.fairylights.client.renderer.entity.FenceFastenerRenderer;
 import me.paulf.fairylights.client.tutorial.ClippyController;
 import me.paulf.fairylights.server.ServerProxy;
+import me.paulf.fairylights.server.block.FLBlocks;
+import me.paulf.fairylights.server.block.LightBlock;
 import me.paulf.fairylights.server.block.entity.FLBlockEntities;
 import me.paulf.fairylights.server.entity.FLEntities;
-import me.paulf.fairylights.server.feature.light.ColorChangingBehavior;
 import me.paulf.fairylights.server.item.DyeableItem;
 import me.paulf.fairylights.server.item.FLItems;
-import me.paulf.fairylights.server.item.HangingLightsConnectionItem;
 import me.paulf.fairylights.server.string.StringTypes;
-import me.paulf.fairylights.util.styledstring.StyledString;
-import net.minecraft.ChatFormatting;
 import net.minecraft.Util;
 import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.block.BlockModelShaper;
 import net.minecraft.client.renderer.block.model.BakedQuad;
 import net.minecraft.client.renderer.blockentity.BlockEntityRenderers;
 import net.minecraft.client.renderer.entity.EntityRenderers;
@@ -55,11 +56,11 @@ import net.minecraft.client.renderer.texture.TextureAtlasSprite;
 import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.client.resources.model.Material;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
-import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.client.event.EntityRenderersEvent;
 import net.minecraftforge.client.event.ModelEvent;
 import net.minecraftforge.client.event.RegisterClientCommandsEvent;
@@ -71,6 +72,10 @@ import net.minecraftforge.eventbus.api.IEventBus;
 import net.minecraftforge.fml.ModLoadingContext;
 import net.minecraftforge.fml.config.ModConfig;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
+import net.minecraftforge.registries.RegistryObject;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 public final class ClientProxy extends ServerProxy {
     @SuppressWarnings("deprecation")
@@ -101,6 +106,8 @@ public final class ClientProxy extends ServerProxy {
         modBus.addListener(this::setupLayerDefinitions);
         modBus.addListener(this::setupColors);
         modBus.addListener(this::setupModels);
+        modBus.addListener(this::onModifyBakingResult);
+        modBus.addListener(this::onModelsBaked);
     }
 
     private int getUvIndex(VertexFormat vertexFormat) {
@@ -192,13 +199,26 @@ public final class ClientProxy extends ServerProxy {
         this.entityModels.forEach(event::register);
     }
 
+    private void onModifyBakingResult(final ModelEvent.ModifyBakingResult event) {
+        final Map<ResourceLocation, BakedModel> models = event.getModels();
+        final Map<BakedModel, BakedModel> wrapped = new IdentityHashMap<>();
+        for (final RegistryObject<Block> entry : FLBlocks.REG.getEntries()) {
+            if (entry.get() instanceof LightBlock) {
+                for (final BlockState state : entry.get().getStateDefinition().getPossibleStates()) {
+                    models.computeIfPresent(BlockModelShaper.stateToModelLocation(state), (location, model) -> wrapped.computeIfAbsent(model, LightBlockModel::new));
+                }
+            }
+        }
+    }
+
+    private void onModelsBaked(final ModelEvent.BakingCompleted event) {
+        FastenerRenderer.onModelsBaked();
+    }
+
     private void setupColors(final RegisterColorHandlersEvent.Item event) {
         event.register((stack, index) -> {
             if (index == 1) {
-                if (ColorChangingBehavior.exists(stack)) {
-                    return ColorChangingBehavior.animate(stack);
-                }
-                return DyeableItem.getColor(stack);
+                return ItemTints.light(stack);
             }
             return 0xFFFFFF;
         },
@@ -224,18 +244,14 @@ public final class ClientProxy extends ServerProxy {
             final CompoundTag tag = stack.getTag();
             if (index == 0) {
                 if (tag != null) {
-                    return HangingLightsConnectionItem.getString(tag).getColor();
+                    return ItemTints.hangingLights(tag).string;
                 }
                 return StringTypes.BLACK_STRING.get().getColor();
             }
             if (tag != null) {
-                final ListTag tagList = tag.getList("pattern", Tag.TAG_COMPOUND);
-                if (tagList.size() > 0) {
-                    final ItemStack item = ItemStack.of(tagList.getCompound((index - 1) % tagList.size()));
-                    if (ColorChangingBehavior.exists(item)) {
-                        return ColorChangingBehavior.animate(item);
-                    }
-                    return DyeableItem.getColor(item);
+                final ItemTints.HangingLights lights = ItemTints.hangingLights(tag);
+                if (lights.hasPattern()) {
+                    return lights.pattern(index - 1);
                 }
             }
             if (FairyLights.CHRISTMAS.isOccurringNow()) {
@@ -253,10 +269,9 @@ public final class ClientProxy extends ServerProxy {
             }
             final CompoundTag tag = stack.getTag();
             if (tag != null) {
-                final ListTag tagList = tag.getList("pattern", Tag.TAG_COMPOUND);
-                if (tagList.size() > 0) {
-                    final ItemStack light = ItemStack.of(tagList.getCompound((index - 1) % tagList.size()));
-                    return DyeableItem.getColor(light);
+                final int[] pattern = ItemTints.pennants(tag);
+                if (pattern.length > 0) {
+                    return pattern[(index - 1) % pattern.length];
                 }
             }
             return 0xFFFFFFFF;
@@ -268,17 +283,9 @@ public final class ClientProxy extends ServerProxy {
         event.register((stack, index) -> {
             final CompoundTag tag = stack.getTag();
             if (index > 0 && tag != null) {
-                final StyledString str = StyledString.deserialize(tag.getCompound("text"));
-                if (str.length() > 0) {
-                    ChatFormatting lastColor = null, color = null;
-                    int n = (index - 1) % str.length();
-                    for (int i = 0; i < str.length(); lastColor = color, i++) {
-                        color = str.styleAt(i).getColor();
-                        if (lastColor != color && (n-- == 0)) {
-                            break;
-                        }
-                    }
-                    return StyledString.getColor(color) | 0xFF000000;
+                final ItemTints.Letters letters = ItemTints.letters(tag);
+                if (!letters.isEmpty()) {
+                    return letters.get(index - 1);
                 }
             }
             return 0xFFFFFFFF;
@@ -21,13 +21,108 @@ public final class FLClientConfig {
         }
     }
 
+    public static final class Lod {
+        public final ForgeConfigSpec.DoubleValue reducedDetailDistance;
+
+        public final ForgeConfigSpec.DoubleValue minimalDetailDistance;
+
+        private Lod(final ForgeConfigSpec.Builder builder) {
+            builder.push("lod");
+            this.reducedDetailDistance = builder
+                .comment(
+                    "The distance in blocks beyond which connections render with a coarser wire, sparser",
+                    " tinsel and without the glow of lights, 0 disables this level of detail."
+                )
+                .defineInRange("reducedDetailDistance", 48.0D, 0.0D, 1024.0D);
+            this.minimalDetailDistance = builder
+                .comment(
+                    "The distance in blocks beyond which connections render with their coarsest wire and",
+                    " lights are reduced to their glowing bulb, 0 disables this level of detail."
+                )
+                .defineInRange("minimalDetailDistance", 96.0D, 0.0D, 1024.0D);
+            builder.pop();
+        }
+    }
+
+    public static final class Rendering {
+        public final ForgeConfigSpec.BooleanValue parallelLights;
+
+        public final ForgeConfigSpec.BooleanValue deterministicLights;
+
+        public final ForgeConfigSpec.BooleanValue tickCulling;
+
+        public final ForgeConfigSpec.IntValue particleBudget;
+
+        private Rendering(final ForgeConfigSpec.Builder builder) {
+            builder.push("rendering");
+            this.parallelLights = builder
+                .comment(
+                    "Whether the geometry of lights is generated on worker threads when a frame has",
+                    " enough of them, only worthwhile for very large displays on multi-core machines."
+                )
+                .define("parallelLights", false);
+            this.deterministicLights = builder
+                .comment(
+                    "Whether twinkling, flickering and meteor lights animate from a hash of their light and",
+                    " the game time rather than random per tick timers, so lights need no ticking to",
+                    " animate and look the same to every player."
+                )
+                .define("deterministicLights", false);
+            this.tickCulling = builder
+                .comment(
+                    "Whether lights, pennants and letters of connections beyond render distance or out of",
+                    " view stop animating until they come back into view."
+                )
+                .define("tickCulling", true);
+            this.particleBudget = builder
+                .comment(
+                    "The most particles lights spawn each frame, such as the flames of torches and the notes",
+                    " of jingles, those nearest the camera come first and the rest are dropped."
+                )
+                .defineInRange("particleBudget", 64, 0, 4096);
+            builder.pop();
+        }
+    }
+
+    public static final class Debug {
+        public final ForgeConfigSpec.BooleanValue renderCollisionTrees;
+
+        public final ForgeConfigSpec.BooleanValue dumpRenderStatistics;
+
+        private Debug(final ForgeConfigSpec.Builder builder) {
+            builder.push("debug");
+            this.renderCollisionTrees = builder
+                .comment(
+                    "Whether to outline the collision tree nodes of nearby connections, leaves are",
+                    " drawn in yellow and branches fade from white the deeper they are."
+                )
+                .define("renderCollisionTrees", false);
+            this.dumpRenderStatistics = builder
+                .comment(
+                    "Whether to append the connections, lights and vertices rendered and the nanoseconds",
+                    " spent on them each frame to logs/fairylights-render.csv."
+                )
+                .define("dumpRenderStatistics", false);
+            builder.pop();
+        }
+    }
+
     public static final Tutorial TUTORIAL;
 
+    public static final Lod LOD;
+
+    public static final Rendering RENDERING;
+
+    public static final Debug DEBUG;
+
     public static final ForgeConfigSpec SPEC;
 
     static {
         final ForgeConfigSpec.Builder builder = new ForgeConfigSpec.Builder();
         TUTORIAL = new Tutorial(builder);
+        LOD = new Lod(builder);
+        RENDERING = new Rendering(builder);
+        DEBUG = new Debug(builder);
         SPEC = builder.build();
     }
 }
@@ -0,0 +1,174 @@
+package me.paulf.fairylights.client;
+
+import com.google.common.collect.MapMaker;
+import me.paulf.fairylights.server.feature.light.ColorChangingBehavior;
+import me.paulf.fairylights.server.item.DyeableItem;
+import me.paulf.fairylights.server.item.HangingLightsConnectionItem;
+import me.paulf.fairylights.util.styledstring.StyledString;
+import net.minecraft.ChatFormatting;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.ItemStack;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * Tints of items decoded from their tag once and kept for as long as the tag
+ * is, so the colour handlers do not parse patterns, items and text for every
+ * tint index of every stack rendered each frame. Entries are keyed by tag
+ * identity and revalidated against the tag's hash, at most once a frame as
+ * hashing walks the whole tag, in case it was modified in place.
+ */
+final class ItemTints {
+    private static final Cache<IntSupplier> LIGHTS = new Cache<>(ItemTints::decodeLight);
+
+    private static final Cache<HangingLights> HANGING_LIGHTS = new Cache<>(HangingLights::new);
+
+    private static final Cache<int[]> PENNANTS = new Cache<>(ItemTints::decodePennants);
+
+    private static final Cache<Letters> LETTERS = new Cache<>(Letters::new);
+
+    private static int frame;
+
+    private ItemTints() {}
+
+    static void startFrame() {
+        frame++;
+    }
+
+    static int light(final ItemStack stack) {
+        final CompoundTag tag = stack.getTag();
+        return tag == null ? 0xFFFFFF : LIGHTS.get(tag).getAsInt();
+    }
+
+    static HangingLights hangingLights(final CompoundTag tag) {
+        return HANGING_LIGHTS.get(tag);
+    }
+
+    static int[] pennants(final CompoundTag tag) {
+        return PENNANTS.get(tag);
+    }
+
+    static Letters letters(final CompoundTag tag) {
+        return LETTERS.get(tag);
+    }
+
+    private static IntSupplier decodeLight(@Nullable final CompoundTag tag) {
+        if (tag == null) {
+            return () -> 0xFFFFFF;
+        }
+        if (ColorChangingBehavior.exists(tag)) {
+            return ColorChangingBehavior.animator(tag);
+        }
+        final int color = DyeableItem.getColor(tag);
+        return () -> color;
+    }
+
+    private static int[] decodePennants(final CompoundTag tag) {
+        final ListTag list = tag.getList("pattern", Tag.TAG_COMPOUND);
+        final int[] pattern = new int[list.size()];
+        for (int i = 0; i < list.size(); i++) {
+            pattern[i] = DyeableItem.getColor(ItemStack.of(list.getCompound(i)));
+        }
+        return pattern;
+    }
+
+    static final class HangingLights {
+        final int string;
+
+        private final IntSupplier[] pattern;
+
+        HangingLights(final CompoundTag tag) {
+            this.string = HangingLightsConnectionItem.getString(tag).getColor();
+            final ListTag list = tag.getList("pattern", Tag.TAG_COMPOUND);
+            this.pattern = new IntSupplier[list.size()];
+            for (int i = 0; i < list.size(); i++) {
+                this.pattern[i] = decodeLight(ItemStack.of(list.getCompound(i)).getTag());
+            }
+        }
+
+        boolean hasPattern() {
+            return this.pattern.length > 0;
+        }
+
+        int pattern(final int index) {
+            return this.pattern[index % this.pattern.length].getAsInt();
+        }
+    }
+
+    static final class Letters {
+        private final int length;
+
+        private final int[] runs;
+
+        private final int last;
+
+        Letters(final CompoundTag tag) {
+            final StyledString str = StyledString.deserialize(tag.getCompound("text"));
+            final int[] runs = new int[str.length()];
+            int count = 0;
+            ChatFormatting lastColor = null, color = null;
+            for (int i = 0; i < str.length(); lastColor = color, i++) {
+                color = str.styleAt(i).getColor();
+                if (lastColor != color) {
+                    runs[count++] = StyledString.getColor(color) | 0xFF000000;
+                }
+            }
+            this.length = str.length();
+            this.runs = Arrays.copyOf(runs, count);
+            this.last = StyledString.getColor(color) | 0xFF000000;
+        }
+
+        boolean isEmpty() {
+            return this.length == 0;
+        }
+
+        /**
+         * The colour of the nth run of same coloured letters in the text.
+         */
+        int get(final int index) {
+            final int n = index % this.length;
+            return n < this.runs.length ? this.runs[n] : this.last;
+        }
+    }
+
+    private static final class Cache<T> {
+        private final Map<CompoundTag, Entry<T>> entries = new MapMaker().weakKeys().makeMap();
+
+        private final Function<CompoundTag, T> decoder;
+
+        Cache(final Function<CompoundTag, T> decoder) {
+            this.decoder = decoder;
+        }
+
+        T get(final CompoundTag tag) {
+            Entry<T> entry = this.entries.get(tag);
+            if (entry == null || entry.frame != frame) {
+                final int hash = tag.hashCode();
+                if (entry == null || entry.hash != hash) {
+                    this.entries.put(tag, entry = new Entry<>(hash, this.decoder.apply(tag)));
+                }
+                entry.frame = frame;
+            }
+            return entry.value;
+        }
+    }
+
+    private static final class Entry<T> {
+        final int hash;
+
+        final T value;
+
+        int frame;
+
+        Entry(final int hash, final T value) {
+            this.hash = hash;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package me.paulf.fairylights.client;
+
+import me.paulf.fairylights.client.renderer.block.entity.FastenerRenderer;
+import me.paulf.fairylights.server.connection.Connection;
+import me.paulf.fairylights.server.fastener.FastenerIndex;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
+
+/**
+ * Suspends ticking the features of connections beyond render distance or out
+ * of view, judged against the frustum of the last frame with a margin so that
+ * strands turned towards have usually resumed before they are drawn.
+ */
+final class TickCulling {
+    private static final double MARGIN = 8.0D;
+
+    private TickCulling() {}
+
+    static void update(final Minecraft mc) {
+        final ClientLevel level = mc.level;
+        if (level == null) {
+            return;
+        }
+        final boolean enabled = FLClientConfig.RENDERING.tickCulling.get();
+        final Vec3 eye = mc.gameRenderer.getMainCamera().getPosition();
+        final double range = mc.options.getEffectiveRenderDistance() * 16.0D + MARGIN;
+        FastenerIndex.get(level).forEach(fastener -> {
+            final boolean suspended = enabled && !isInView(fastener.getBounds(), eye, range);
+            for (final Connection connection : fastener.getOwnConnections()) {
+                connection.setSuspended(suspended);
+            }
+        });
+    }
+
+    private static boolean isInView(final AABB bounds, final Vec3 eye, final double range) {
+        final double dx = Math.max(0.0D, Math.max(bounds.minX - eye.x, eye.x - bounds.maxX));
+        final double dy = Math.max(0.0D, Math.max(bounds.minY - eye.y, eye.y - bounds.maxY));
+        final double dz = Math.max(0.0D, Math.max(bounds.minZ - eye.z, eye.z - bounds.maxZ));
+        return dx * dx + dy * dy + dz * dz <= range * range && FastenerRenderer.isVisible(bounds.inflate(MARGIN));
+    }
+}
@@ -28,6 +28,11 @@ public class IcicleLightsModel extends LightModel<MultiLightBehavior> {
         }
     }
 
+    @Override
+    public boolean hasStaticUnlit() {
+        return false;
+    }
+
     @Override
     public void renderToBuffer(final PoseStack matrix, final VertexConsumer builder, final int light, final int overlay, final float r, final float g, final float b, final float a) {
         super.renderToBuffer(matrix, builder, light, overlay, r, g, b, a);
@@ -36,6 +41,14 @@ public class IcicleLightsModel extends LightModel<MultiLightBehavior> {
         }
     }
 
+    @Override
+    public void renderBulb(final PoseStack matrix, final VertexConsumer builder, final int light, final int overlay, final float r, final float g, final float b, final float a) {
+        super.renderBulb(matrix, builder, light, overlay, r, g, b, a);
+        for (final ColorLightModel bulb : this.bulbs) {
+            bulb.renderBulb(matrix, builder, light, overlay, r, g, b, a);
+        }
+    }
+
     @Override
     public void renderTranslucent(final PoseStack matrix, final VertexConsumer builder, final int light, final int overlay, final float r, final float g, final float b, final float a) {
         super.renderTranslucent(matrix, builder, light, overlay, r, g, b, a);
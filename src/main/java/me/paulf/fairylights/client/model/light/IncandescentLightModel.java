@@ -29,6 +29,11 @@ public class IncandescentLightModel extends LightModel<BrightnessLightBehavior>
         return (int) Math.max((this.brightness * 15.0F * 16.0F), packedLight & 255) | packedLight & (255 << 16);
     }
 
+    @Override
+    public boolean hasStaticUnlit() {
+        return false;
+    }
+
     @Override
     public void renderToBuffer(final PoseStack matrix, final VertexConsumer builder, final int light, final int overlay, final float r, final float g, final float b, final float a) {
         super.renderToBuffer(matrix, builder, light, overlay, r, g, b, a);
@@ -38,6 +43,17 @@ public class IncandescentLightModel extends LightModel<BrightnessLightBehavior>
         this.filament.render(matrix, builder, emissiveLight, overlay, r * (cr * (1.0F - br) + br), g * (cg * (1.0F - br) + br), b * (cb * (1.0F - br) + br), a);
     }
 
+    /**
+     * Draws the glass bulb opaque, as at a distance it stands in for the glow it has up close.
+     */
+    @Override
+    public void renderBulb(final PoseStack matrix, final VertexConsumer builder, final int light, final int overlay, final float r, final float g, final float b, final float a) {
+        super.renderBulb(matrix, builder, light, overlay, r, g, b, a);
+        final float bi = this.brightness;
+        final float br = 1.0F, bg = 0.73F, bb = 0.3F;
+        this.bulb.render(matrix, builder, this.getLight(light), overlay, r * (br * bi + (1.0F - bi)), g * (bg * bi + (1.0F - bi)), b * (bb * bi + (1.0F - bi)), a);
+    }
+
     @Override
     public void renderTranslucent(final PoseStack matrix, final VertexConsumer builder, final int light, final int overlay, final float r, final float g, final float b, final float a) {
         final float bi = this.brightness;
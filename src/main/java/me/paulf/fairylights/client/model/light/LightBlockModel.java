@@ -0,0 +1,188 @@
+package me.paulf.fairylights.client.model.light;
+
+import com.google.common.collect.ImmutableList;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import me.paulf.fairylights.client.ClientProxy;
+import me.paulf.fairylights.client.renderer.block.entity.LightBlockEntityRenderer;
+import me.paulf.fairylights.client.renderer.block.entity.LightRenderer;
+import me.paulf.fairylights.server.block.LightBlock;
+import me.paulf.fairylights.server.item.LightVariant;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.block.model.BakedQuad;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.core.Direction;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraftforge.client.ChunkRenderTypeSet;
+import net.minecraftforge.client.model.BakedModelWrapper;
+import net.minecraftforge.client.model.data.ModelData;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Block model of a light which bakes the unlit parts of its light model
+ * into the chunk mesh, leaving the block entity renderer to draw only the
+ * parts that light up and animate.
+ */
+public class LightBlockModel extends BakedModelWrapper<BakedModel> {
+    private static final ChunkRenderTypeSet RENDER_TYPES = ChunkRenderTypeSet.of(RenderType.cutout());
+
+    private final Map<BlockState, List<BakedQuad>> quads = new ConcurrentHashMap<>();
+
+    @Nullable
+    private volatile LightRenderer lights;
+
+    public LightBlockModel(final BakedModel original) {
+        super(original);
+    }
+
+    @Override
+    public List<BakedQuad> getQuads(@Nullable final BlockState state, @Nullable final Direction side, final RandomSource rand, final ModelData extraData, @Nullable final RenderType renderType) {
+        final List<BakedQuad> quads = super.getQuads(state, side, rand, extraData, renderType);
+        if (state == null || side != null || renderType != null && renderType != RenderType.cutout()) {
+            return quads;
+        }
+        final List<BakedQuad> unlit = this.quads.computeIfAbsent(state, this::bake);
+        if (quads.isEmpty()) {
+            return unlit;
+        }
+        return ImmutableList.<BakedQuad>builder().addAll(quads).addAll(unlit).build();
+    }
+
+    @Override
+    public ChunkRenderTypeSet getRenderTypes(final BlockState state, final RandomSource rand, final ModelData data) {
+        return ChunkRenderTypeSet.union(super.getRenderTypes(state, rand, data), RENDER_TYPES);
+    }
+
+    @Override
+    public boolean useAmbientOcclusion() {
+        return false;
+    }
+
+    private List<BakedQuad> bake(final BlockState state) {
+        if (!(state.getBlock() instanceof LightBlock)) {
+            return List.of();
+        }
+        final LightVariant<?> variant = ((LightBlock) state.getBlock()).getVariant();
+        final LightModel<?> model = this.getLights().getModel(variant, -1);
+        if (!LightBlockEntityRenderer.isBaked(state, variant, model)) {
+            return List.of();
+        }
+        final TextureAtlasSprite sprite = ClientProxy.SOLID_TEXTURE.sprite();
+        final QuadCollector collector = new QuadCollector(sprite);
+        final PoseStack matrix = new PoseStack();
+        LightBlockEntityRenderer.transform(matrix, state, variant, model);
+        model.renderUnlit(matrix, sprite.wrap(collector), 0, OverlayTexture.NO_OVERLAY, 1.0F, 1.0F, 1.0F, 1.0F);
+        return List.copyOf(collector.quads);
+    }
+
+    private LightRenderer getLights() {
+        LightRenderer lights = this.lights;
+        if (lights == null) {
+            synchronized (this) {
+                lights = this.lights;
+                if (lights == null) {
+                    this.lights = lights = new LightRenderer(Minecraft.getInstance().getEntityModels()::bakeLayer);
+                }
+            }
+        }
+        return lights;
+    }
+
+    /**
+     * Packs every four vertices into a quad in the block vertex format.
+     */
+    private static final class QuadCollector implements VertexConsumer {
+        private static final int STRIDE = 8;
+
+        final List<BakedQuad> quads = new ArrayList<>();
+
+        private final TextureAtlasSprite sprite;
+
+        private int[] vertices = new int[STRIDE * 4];
+
+        private int count;
+
+        private float x, y, z, u, v, nx, ny, nz;
+
+        private int color = 0xFFFFFFFF;
+
+        private int light;
+
+        QuadCollector(final TextureAtlasSprite sprite) {
+            this.sprite = sprite;
+        }
+
+        @Override
+        public VertexConsumer vertex(final double x, final double y, final double z) {
+            this.x = (float) x;
+            this.y = (float) y;
+            this.z = (float) z;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer color(final int r, final int g, final int b, final int a) {
+            this.color = r & 0xFF | (g & 0xFF) << 8 | (b & 0xFF) << 16 | (a & 0xFF) << 24;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer uv(final float u, final float v) {
+            this.u = u;
+            this.v = v;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer overlayCoords(final int u, final int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer uv2(final int u, final int v) {
+            this.light = u & 0xFFFF | v << 16;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer normal(final float x, final float y, final float z) {
+            this.nx = x;
+            this.ny = y;
+            this.nz = z;
+            return this;
+        }
+
+        @Override
+        public void endVertex() {
+            final int o = this.count * STRIDE;
+            this.vertices[o] = Float.floatToRawIntBits(this.x);
+            this.vertices[o + 1] = Float.floatToRawIntBits(this.y);
+            this.vertices[o + 2] = Float.floatToRawIntBits(this.z);
+            this.vertices[o + 3] = this.color;
+            this.vertices[o + 4] = Float.floatToRawIntBits(this.u);
+            this.vertices[o + 5] = Float.floatToRawIntBits(this.v);
+            this.vertices[o + 6] = this.light;
+            this.vertices[o + 7] = ((byte) (this.nx * 127.0F) & 0xFF) | ((byte) (this.ny * 127.0F) & 0xFF) << 8 | ((byte) (this.nz * 127.0F) & 0xFF) << 16;
+            if (++this.count == 4) {
+                this.quads.add(new BakedQuad(this.vertices, -1, Direction.getNearest(this.nx, this.ny, this.nz), this.sprite, true));
+                this.vertices = new int[STRIDE * 4];
+                this.count = 0;
+            }
+        }
+
+        @Override
+        public void defaultColor(final int r, final int g, final int b, final int a) {}
+
+        @Override
+        public void unsetDefaultColor() {}
+    }
+}
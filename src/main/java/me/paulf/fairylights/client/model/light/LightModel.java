@@ -112,14 +112,35 @@ public abstract class LightModel<T extends LightBehavior> extends Model {
         this.powered = light.isPowered();
     }
 
+    /**
+     * Whether the unlit parts never change with animation and are all that
+     * {@link #renderToBuffer} draws apart from {@link #renderLit}, so they can
+     * be baked once into static geometry.
+     */
+    public boolean hasStaticUnlit() {
+        return true;
+    }
+
     @Override
     public void renderToBuffer(final PoseStack matrix, final VertexConsumer builder, final int light, final int overlay, final float r, final float g, final float b, final float a) {
+        this.renderUnlit(matrix, builder, light, overlay, r, g, b, a);
+        this.renderLit(matrix, builder, light, overlay, r, g, b, a);
+    }
+
+    public void renderUnlit(final PoseStack matrix, final VertexConsumer builder, final int light, final int overlay, final float r, final float g, final float b, final float a) {
         this.unlit.render(matrix, builder, light, overlay, r, g, b, a);
+    }
+
+    public void renderLit(final PoseStack matrix, final VertexConsumer builder, final int light, final int overlay, final float r, final float g, final float b, final float a) {
         final int emissiveLight = this.getLight(light);
         this.lit.render(matrix, builder, emissiveLight, overlay, r, g, b, a);
         this.litTint.render(matrix, builder, emissiveLight, overlay, r * this.red, g * this.green, b * this.blue, a);
     }
 
+    public void renderBulb(final PoseStack matrix, final VertexConsumer builder, final int light, final int overlay, final float r, final float g, final float b, final float a) {
+        this.litTint.render(matrix, builder, this.getLight(light), overlay, r * this.red, g * this.green, b * this.blue, a);
+    }
+
     public void renderTranslucent(final PoseStack matrix, final VertexConsumer builder, final int light, final int overlay, final float r, final float g, final float b, final float a) {
         final float v = this.brightness;
         this.litTintGlow.render(matrix, builder, this.getLight(light), overlay, r * this.red * v + (1.0F - v), g * this.green * v + (1.0F - v), b * this.blue * v + (1.0F - v), v * 0.15F + 0.2F);
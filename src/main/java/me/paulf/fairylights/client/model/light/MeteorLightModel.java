@@ -53,6 +53,11 @@ public class MeteorLightModel extends LightModel<MeteorLightBehavior> {
         return Mth.clamp(t - this.stage > 0.0F ? 1.0F - Math.abs(t - this.stage) * 4.0F : 1.0F - Math.abs(t - this.stage), 0.0F, 1.0F);
     }
 
+    @Override
+    public boolean hasStaticUnlit() {
+        return false;
+    }
+
     @Override
     public void renderToBuffer(final PoseStack matrix, final VertexConsumer builder, final int light, final int overlay, final float r, final float g, final float b, final float a) {
         for (int i = 0; i < this.lights.length; i++) {
@@ -66,6 +71,17 @@ public class MeteorLightModel extends LightModel<MeteorLightBehavior> {
         }
     }
 
+    @Override
+    public void renderBulb(final PoseStack matrix, final VertexConsumer builder, final int light, final int overlay, final float r, final float g, final float b, final float a) {
+        for (int i = 0; i < this.lights.length; i++) {
+            this.brightness = this.computeBrightness((float) i / this.lights.length);
+            for (int n = 0; n < this.lights.length; n++) {
+                this.lights[n].setVisible(i == n);
+            }
+            super.renderBulb(matrix, builder, light, overlay, r, g, b, a);
+        }
+    }
+
     @Override
     public void renderTranslucent(final PoseStack matrix, final VertexConsumer builder, final int light, final int overlay, final float r, final float g, final float b, final float a) {
         for (int i = 0; i < this.lights.length; i++) {
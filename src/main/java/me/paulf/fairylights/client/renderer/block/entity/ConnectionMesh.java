@@ -0,0 +1,162 @@
+package me.paulf.fairylights.client.renderer.block.entity;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * Geometry of a connection in connection space, recorded once per source
+ * of its shape (a catenary or a set of features) and level of detail, and
+ * replayed with the current pose, tint and lighting so a resting connection
+ * does not rebuild it every frame.
+ */
+final class ConnectionMesh {
+    private static final int STRIDE = 11;
+
+    private static int generation;
+
+    @Nullable
+    private Object shape;
+
+    private int detail;
+
+    // bumped by the owner when the shape changes without being replaced, as when features jump to rest elsewhere
+    private int revision;
+
+    private int meshGeneration;
+
+    private float[] vertices = new float[STRIDE * 256];
+
+    private int size;
+
+    private final Vector4f pos = new Vector4f();
+
+    private final Vector3f normal = new Vector3f();
+
+    static void invalidateAll() {
+        generation++;
+    }
+
+    static int generation() {
+        return generation;
+    }
+
+    boolean isFor(final Object shape, final int detail) {
+        return this.isFor(shape, detail, 0);
+    }
+
+    boolean isFor(final Object shape, final int detail, final int revision) {
+        return this.shape == shape && this.detail == detail && this.revision == revision && this.meshGeneration == generation;
+    }
+
+    VertexConsumer rebuild(final Object shape, final int detail) {
+        return this.rebuild(shape, detail, 0);
+    }
+
+    VertexConsumer rebuild(final Object shape, final int detail, final int revision) {
+        this.shape = shape;
+        this.detail = detail;
+        this.revision = revision;
+        this.meshGeneration = generation;
+        this.size = 0;
+        return new Recorder();
+    }
+
+    void render(final PoseStack.Pose last, final VertexConsumer buf, final float r, final float g, final float b, final int packedLight, final int packedOverlay) {
+        final Matrix4f pose = last.pose();
+        final Matrix3f normals = last.normal();
+        final float[] v = this.vertices;
+        for (int i = 0; i < this.size; i += STRIDE) {
+            this.pos.set(v[i], v[i + 1], v[i + 2], 1.0F);
+            pose.transform(this.pos);
+            this.normal.set(v[i + 8], v[i + 9], v[i + 10]);
+            normals.transform(this.normal);
+            buf.vertex(
+                this.pos.x(), this.pos.y(), this.pos.z(),
+                r * v[i + 3], g * v[i + 4], b * v[i + 5], 1.0F,
+                v[i + 6], v[i + 7],
+                packedOverlay, packedLight,
+                this.normal.x(), this.normal.y(), this.normal.z()
+            );
+        }
+    }
+
+    private final class Recorder implements VertexConsumer {
+        private float x, y, z, r = 1.0F, g = 1.0F, b = 1.0F, u, v, nx, ny, nz;
+
+        @Override
+        public VertexConsumer vertex(final double x, final double y, final double z) {
+            this.x = (float) x;
+            this.y = (float) y;
+            this.z = (float) z;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer color(final int r, final int g, final int b, final int a) {
+            this.r = r / 255.0F;
+            this.g = g / 255.0F;
+            this.b = b / 255.0F;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer uv(final float u, final float v) {
+            this.u = u;
+            this.v = v;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer overlayCoords(final int u, final int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer uv2(final int u, final int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer normal(final float x, final float y, final float z) {
+            this.nx = x;
+            this.ny = y;
+            this.nz = z;
+            return this;
+        }
+
+        @Override
+        public void endVertex() {
+            final ConnectionMesh mesh = ConnectionMesh.this;
+            if (mesh.size + STRIDE > mesh.vertices.length) {
+                mesh.vertices = Arrays.copyOf(mesh.vertices, mesh.vertices.length * 2);
+            }
+            final float[] v = mesh.vertices;
+            final int i = mesh.size;
+            v[i] = this.x;
+            v[i + 1] = this.y;
+            v[i + 2] = this.z;
+            v[i + 3] = this.r;
+            v[i + 4] = this.g;
+            v[i + 5] = this.b;
+            v[i + 6] = this.u;
+            v[i + 7] = this.v;
+            v[i + 8] = this.nx;
+            v[i + 9] = this.ny;
+            v[i + 10] = this.nz;
+            mesh.size += STRIDE;
+        }
+
+        @Override
+        public void defaultColor(final int r, final int g, final int b, final int a) {}
+
+        @Override
+        public void unsetDefaultColor() {}
+    }
+}
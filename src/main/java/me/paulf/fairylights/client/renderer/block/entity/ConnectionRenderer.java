@@ -1,13 +1,12 @@
 package me.paulf.fairylights.client.renderer.block.entity;
 
+import com.google.common.collect.MapMaker;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
-import com.mojang.math.Axis;
 import me.paulf.fairylights.client.ClientProxy;
 import me.paulf.fairylights.server.connection.Connection;
 import me.paulf.fairylights.util.Catenary;
 import me.paulf.fairylights.util.Curve;
-import me.paulf.fairylights.util.FLMth;
 import net.minecraft.client.model.Model;
 import net.minecraft.client.model.geom.ModelLayerLocation;
 import net.minecraft.client.model.geom.ModelPart;
@@ -18,53 +17,65 @@ import net.minecraft.client.model.geom.builders.MeshDefinition;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.RenderType;
 
+import java.util.Map;
 import java.util.function.Function;
 
 public abstract class ConnectionRenderer<C extends Connection> {
-    private final WireModel model;
-    private final float wireInflate;
+    private final WireTessellator wire;
+    private final Map<C, ConnectionMesh> meshes = new MapMaker().weakKeys().makeMap();
 
     protected ConnectionRenderer(final Function<ModelLayerLocation, ModelPart> baker, final ModelLayerLocation wireModelLocation) {
         this(baker, wireModelLocation, 0.0F);
     }
 
     protected ConnectionRenderer(final Function<ModelLayerLocation, ModelPart> baker, final ModelLayerLocation wireModelLocation, final float wireInflate) {
-        this.model = new WireModel(baker.apply(wireModelLocation));
-        this.wireInflate = wireInflate;
+        this.wire = WireTessellator.of(new WireModel(baker.apply(wireModelLocation)), wireInflate);
     }
 
     public void render(final C conn, final float delta, final PoseStack matrix, final MultiBufferSource source, final int packedLight, final int packedOverlay) {
         final Curve currCat = conn.getCatenary();
         final Curve prevCat = conn.getPrevCatenary();
         if (currCat != null && prevCat != null) {
-            final Curve cat = prevCat.lerp(currCat, delta);
-            final Curve.SegmentIterator it = cat.iterator();
+            final DetailLevel detail = DetailLevel.of(conn);
+            final int step = detail.getWireStep();
+            final boolean resting = currCat == prevCat;
+            final Curve cat = resting ? currCat : prevCat.lerp(currCat, delta);
             final VertexConsumer buf = ClientProxy.SOLID_TEXTURE.buffer(source, RenderType::entityCutout);
             final int color = this.getWireColor(conn);
             final float r = ((color >> 16) & 0xFF) / 255.0F;
             final float g = ((color >> 8) & 0xFF) / 255.0F;
             final float b = (color & 0xFF) / 255.0F;
+            if (resting) {
+                this.getWireMesh(conn, cat, step).render(matrix.last(), buf, r, g, b, packedLight, packedOverlay);
+            } else {
+                this.wire.tessellate(cat, step, matrix.last(), buf, packedLight, packedOverlay, r, g, b);
+            }
+            final Curve.SegmentIterator it = cat.iterator();
             while (it.next()) {
-                matrix.pushPose();
-                matrix.translate(it.getX(0.0F), it.getY(0.0F),  it.getZ(0.0F));
-                matrix.mulPose(Axis.YP.rotation(FLMth.PI / 2.0F - it.getYaw()));
-                matrix.mulPose(Axis.XP.rotation(-it.getPitch()));
-                matrix.scale(1.0F + this.wireInflate, 1.0F, it.getLength() * 16.0F);
-                this.model.renderToBuffer(matrix, buf, packedLight, packedOverlay, r, g, b, 1.0F);
-                matrix.popPose();
-                this.renderSegment(conn, it, delta, matrix, packedLight, source, packedOverlay);
+                this.renderSegment(conn, it, delta, matrix, packedLight, source, packedOverlay, detail);
             }
             this.render(conn, cat, delta, matrix, source, packedLight, packedOverlay);
         }
     }
 
+    private ConnectionMesh getWireMesh(final C conn, final Curve cat, final int step) {
+        ConnectionMesh mesh = this.meshes.get(conn);
+        if (mesh == null) {
+            this.meshes.put(conn, mesh = new ConnectionMesh());
+        }
+        if (!mesh.isFor(cat, step)) {
+            this.wire.tessellate(cat, step, new PoseStack().last(), mesh.rebuild(cat, step), 0, 0, 1.0F, 1.0F, 1.0F);
+        }
+        return mesh;
+    }
+
     protected int getWireColor(final C conn) {
         return 0xFFFFFF;
     }
 
     protected void render(final C conn, final Curve catenary, final float delta, final PoseStack matrix, final MultiBufferSource source, final int packedLight, final int packedOverlay) {}
 
-    protected void renderSegment(final C connection, final Catenary.SegmentView it, final float delta, final PoseStack matrix, final int packedLight, final MultiBufferSource source, final int packedOverlay) {}
+    protected void renderSegment(final C connection, final Catenary.SegmentView it, final float delta, final PoseStack matrix, final int packedLight, final MultiBufferSource source, final int packedOverlay, final DetailLevel detail) {}
 
     public static class WireModel extends Model {
         final ModelPart root;
@@ -0,0 +1,66 @@
+package me.paulf.fairylights.client.renderer.block.entity;
+
+import me.paulf.fairylights.client.FLClientConfig;
+import me.paulf.fairylights.server.connection.Connection;
+import me.paulf.fairylights.util.Curve;
+import net.minecraft.client.Minecraft;
+import net.minecraft.world.phys.Vec3;
+
+public enum DetailLevel {
+    FULL(1, 64, true, true),
+    REDUCED(2, 24, true, false),
+    MINIMAL(4, 8, false, false);
+
+    private final int wireStep;
+
+    private final int tinselRings;
+
+    private final boolean fullLights;
+
+    private final boolean glow;
+
+    DetailLevel(final int wireStep, final int tinselRings, final boolean fullLights, final boolean glow) {
+        this.wireStep = wireStep;
+        this.tinselRings = tinselRings;
+        this.fullLights = fullLights;
+        this.glow = glow;
+    }
+
+    public int getWireStep() {
+        return this.wireStep;
+    }
+
+    public int getTinselRings() {
+        return this.tinselRings;
+    }
+
+    public boolean hasFullLights() {
+        return this.fullLights;
+    }
+
+    public boolean hasGlow() {
+        return this.glow;
+    }
+
+    public static DetailLevel of(final Connection conn) {
+        final Vec3 camera = Minecraft.getInstance().gameRenderer.getMainCamera().getPosition();
+        final Vec3 from = conn.getFastener().getConnectionPoint();
+        final Curve cat = conn.getCatenary();
+        double x = from.x, y = from.y, z = from.z;
+        if (cat != null) {
+            x += cat.getX() * 0.5D;
+            y += cat.getY() * 0.5D;
+            z += cat.getZ() * 0.5D;
+        }
+        final double dist = camera.distanceToSqr(x, y, z);
+        final double minimal = FLClientConfig.LOD.minimalDetailDistance.get();
+        if (minimal > 0.0D && dist >= minimal * minimal) {
+            return MINIMAL;
+        }
+        final double reduced = FLClientConfig.LOD.reducedDetailDistance.get();
+        if (reduced > 0.0D && dist >= reduced * reduced) {
+            return REDUCED;
+        }
+        return FULL;
+    }
+}
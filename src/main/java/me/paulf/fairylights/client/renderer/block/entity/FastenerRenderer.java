@@ -1,8 +1,10 @@
 package me.paulf.fairylights.client.renderer.block.entity;
 
+import com.google.common.collect.MapMaker;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import me.paulf.fairylights.client.ClientProxy;
 import me.paulf.fairylights.client.FLModelLayers;
 import me.paulf.fairylights.client.model.light.BowModel;
@@ -14,6 +16,8 @@ import me.paulf.fairylights.server.connection.LetterBuntingConnection;
 import me.paulf.fairylights.server.connection.PennantBuntingConnection;
 import me.paulf.fairylights.server.fastener.Fastener;
 import me.paulf.fairylights.server.fastener.FenceFastener;
+import me.paulf.fairylights.util.AABBBuilder;
+import me.paulf.fairylights.util.Curve;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.model.geom.ModelLayerLocation;
 import net.minecraft.client.model.geom.ModelPart;
@@ -21,29 +25,48 @@ import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.block.model.BakedQuad;
 import net.minecraft.client.renderer.block.model.ItemTransforms;
+import net.minecraft.client.renderer.culling.Frustum;
 import net.minecraft.client.renderer.texture.OverlayTexture;
 import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.core.Direction;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.RandomSource;
+import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.item.ItemDisplayContext;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.FenceBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.client.model.data.ModelData;
 import net.minecraftforge.common.Tags;
 
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.function.Function;
 
 public class FastenerRenderer {
+    private static final double CULL_MARGIN = 1.5D;
+
+    private static final Map<ResourceLocation, BakedModel> MODELS = new HashMap<>();
+
+    private static final Map<BakedModel, BakedQuad[]> QUADS = new Reference2ObjectOpenHashMap<>();
+
+    @Nullable
+    private static Frustum frustum;
+
     private final HangingLightsRenderer hangingLights;
     private final GarlandVineRenderer garland;
     private final GarlandTinselRenderer tinsel;
     private final PennantBuntingRenderer pennants;
     private final LetterBuntingRenderer letters;
     private final BowModel bow;
+    private final Map<Connection, ConnectionBounds> bounds = new MapMaker().weakKeys().makeMap();
 
     public FastenerRenderer(final Function<ModelLayerLocation, ModelPart> baker) {
         this.hangingLights = new HangingLightsRenderer(baker);
@@ -57,7 +80,7 @@ public class FastenerRenderer {
     public void render(final Fastener<?> fastener, final float delta, final PoseStack matrix, final MultiBufferSource source, final int packedLight, final int packedOverlay) {
         boolean renderBow = true;
         for (final Connection conn : fastener.getAllConnections()) {
-            if (conn.getFastener() == fastener) {
+            if (conn.getFastener() == fastener && this.isVisible(conn)) {
                 this.renderConnection(delta, matrix, source, packedLight, packedOverlay, conn);
             }
             if (renderBow && conn instanceof GarlandVineConnection &&
@@ -67,6 +90,36 @@ public class FastenerRenderer {
         }
     }
 
+    public static void setFrustum(@Nullable final Frustum frustum) {
+        FastenerRenderer.frustum = frustum;
+    }
+
+    public static void onModelsBaked() {
+        MODELS.clear();
+        QUADS.clear();
+        ConnectionMesh.invalidateAll();
+    }
+
+    public static boolean isVisible(final AABB bounds) {
+        return frustum == null || frustum.isVisible(bounds);
+    }
+
+    private boolean isVisible(final Connection conn) {
+        if (frustum == null) {
+            return true;
+        }
+        final Curve cat = conn.getCatenary();
+        if (cat == null) {
+            return true;
+        }
+        final Vec3 origin = conn.getFastener().getConnectionPoint();
+        ConnectionBounds bounds = this.bounds.get(conn);
+        if (bounds == null) {
+            this.bounds.put(conn, bounds = new ConnectionBounds());
+        }
+        return frustum.isVisible(bounds.get(cat, origin));
+    }
+
     private boolean renderBow(Fastener<?> fastener, PoseStack matrix, MultiBufferSource source, int packedLight, int packedOverlay) {
         if (fastener instanceof FenceFastener) {
             final Level world = fastener.getWorld();
@@ -125,21 +178,66 @@ public class FastenerRenderer {
     }
 
     private void renderConnection(final float delta, final PoseStack matrix, final MultiBufferSource source, final int packedLight, final int packedOverlay, final Connection conn) {
+        final ProfilerFiller profiler = Minecraft.getInstance().getProfiler();
+        final RenderStatistics statistics = RenderStatistics.INSTANCE;
+        final long start = statistics.isCounting() ? System.nanoTime() : 0L;
+        final MultiBufferSource target = statistics.wrap(source);
+        profiler.push("fairylights_render");
         if (conn instanceof HangingLightsConnection) {
-            this.hangingLights.render((HangingLightsConnection) conn, delta, matrix, source, packedLight, packedOverlay);
+            profiler.push("hanging_lights");
+            this.hangingLights.render((HangingLightsConnection) conn, delta, matrix, target, packedLight, packedOverlay);
         } else if (conn instanceof GarlandVineConnection) {
-            this.garland.render((GarlandVineConnection) conn, delta, matrix, source, packedLight, packedOverlay);
+            profiler.push("garland_vine");
+            this.garland.render((GarlandVineConnection) conn, delta, matrix, target, packedLight, packedOverlay);
         } else if (conn instanceof GarlandTinselConnection) {
-            this.tinsel.render((GarlandTinselConnection) conn, delta, matrix, source, packedLight, packedOverlay);
+            profiler.push("garland_tinsel");
+            this.tinsel.render((GarlandTinselConnection) conn, delta, matrix, target, packedLight, packedOverlay);
         } else if (conn instanceof PennantBuntingConnection) {
-            this.pennants.render((PennantBuntingConnection) conn, delta, matrix, source, packedLight, packedOverlay);
+            profiler.push("pennant_bunting");
+            this.pennants.render((PennantBuntingConnection) conn, delta, matrix, target, packedLight, packedOverlay);
         } else if (conn instanceof LetterBuntingConnection) {
-            this.letters.render((LetterBuntingConnection) conn, delta, matrix, source, packedLight, packedOverlay);
+            profiler.push("letter_bunting");
+            this.letters.render((LetterBuntingConnection) conn, delta, matrix, target, packedLight, packedOverlay);
+        } else {
+            profiler.push("other");
+        }
+        profiler.pop();
+        profiler.pop();
+        if (statistics.isCounting()) {
+            statistics.visitConnection();
+            statistics.addNanos(System.nanoTime() - start);
+        }
+    }
+
+    private static final class ConnectionBounds {
+        @Nullable
+        private Curve catenary;
+
+        @Nullable
+        private Vec3 origin;
+
+        private AABB bounds;
+
+        AABB get(final Curve catenary, final Vec3 origin) {
+            if (this.catenary != catenary || !origin.equals(this.origin)) {
+                this.catenary = catenary;
+                this.origin = origin;
+                final AABBBuilder builder = new AABBBuilder();
+                for (int i = 0; i < catenary.getCount(); i++) {
+                    builder.include(catenary.getX(i), catenary.getY(i), catenary.getZ(i));
+                }
+                this.bounds = builder.add(origin).expand(CULL_MARGIN).build();
+            }
+            return this.bounds;
         }
     }
 
     public static void renderBakedModel(final ResourceLocation path, final PoseStack matrix, final VertexConsumer buf, final float r, final float g, final float b, final int packedLight, final int packedOverlay) {
-        renderBakedModel(Minecraft.getInstance().getModelManager().getModel(path), matrix, buf, r, g, b, packedLight, packedOverlay);
+        BakedModel model = MODELS.get(path);
+        if (model == null) {
+            MODELS.put(path, model = Minecraft.getInstance().getModelManager().getModel(path));
+        }
+        renderBakedModel(model, matrix, buf, r, g, b, packedLight, packedOverlay);
     }
 
     public static void renderBakedModel(final BakedModel model, final PoseStack matrix, final VertexConsumer buf, final float r, final float g, final float b, final int packedLight, final int packedOverlay) {
@@ -150,20 +248,25 @@ public class FastenerRenderer {
     // (refusing to use handlePerspective due to IForgeTransformationMatrix#push superfluous undocumented MatrixStack#push)
     public static void renderBakedModel(final BakedModel model, final ItemDisplayContext type, final PoseStack matrix, final VertexConsumer buf, final float r, final float g, final float b, final int packedLight, final int packedOverlay) {
         model.getTransforms().getTransform(type).apply(false, matrix);
-
-        PoseStack.Pose lastStack = matrix.last();
-
-        RandomSource randSource = RandomSource.create();
-        for (final Direction side : Direction.values()) {
-            randSource.setSeed(42L);
-            for (final BakedQuad quad : model.getQuads(null, side, randSource)) {
-                buf.putBulkData(lastStack, quad, r, g, b, packedLight, packedOverlay);
-            }
+        final PoseStack.Pose lastStack = matrix.last();
+        for (final BakedQuad quad : getQuads(model)) {
+            buf.putBulkData(lastStack, quad, r, g, b, packedLight, packedOverlay);
         }
+    }
 
-        randSource.setSeed(42L);
-        for (final BakedQuad quad : model.getQuads(null, null, randSource)) {
-            buf.putBulkData(lastStack, quad, r, g, b, packedLight, packedOverlay);
+    private static BakedQuad[] getQuads(final BakedModel model) {
+        BakedQuad[] quads = QUADS.get(model);
+        if (quads == null) {
+            final List<BakedQuad> list = new ArrayList<>();
+            final RandomSource randSource = RandomSource.create();
+            for (final Direction side : Direction.values()) {
+                randSource.setSeed(42L);
+                list.addAll(model.getQuads(null, side, randSource));
+            }
+            randSource.setSeed(42L);
+            list.addAll(model.getQuads(null, null, randSource));
+            QUADS.put(model, quads = list.toArray(new BakedQuad[0]));
         }
+        return quads;
     }
 }
@@ -1,12 +1,13 @@
 package me.paulf.fairylights.client.renderer.block.entity;
 
+import com.google.common.collect.MapMaker;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
 import me.paulf.fairylights.client.ClientProxy;
 import me.paulf.fairylights.client.FLModelLayers;
 import me.paulf.fairylights.server.connection.GarlandTinselConnection;
-import me.paulf.fairylights.util.Catenary;
+import me.paulf.fairylights.util.Curve;
 import me.paulf.fairylights.util.RandomArray;
 import net.minecraft.client.model.Model;
 import net.minecraft.client.model.geom.ModelLayerLocation;
@@ -19,6 +20,7 @@ import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.util.Mth;
 
+import java.util.Map;
 import java.util.function.Function;
 
 public class GarlandTinselRenderer extends ConnectionRenderer<GarlandTinselConnection> {
@@ -26,6 +28,8 @@ public class GarlandTinselRenderer extends ConnectionRenderer<GarlandTinselConne
 
     private final StripModel strip;
 
+    private final Map<GarlandTinselConnection, ConnectionMesh> meshes = new MapMaker().weakKeys().makeMap();
+
     public GarlandTinselRenderer(final Function<ModelLayerLocation, ModelPart> baker) {
         super(baker, FLModelLayers.TINSEL_WIRE);
         this.strip = new StripModel(baker.apply(FLModelLayers.TINSEL_STRIP));
@@ -37,37 +41,55 @@ public class GarlandTinselRenderer extends ConnectionRenderer<GarlandTinselConne
     }
 
     @Override
-    protected void renderSegment(final GarlandTinselConnection connection, final Catenary.SegmentView it, final float delta, final PoseStack matrix, final int packedLight, final MultiBufferSource source, final int packedOverlay) {
-        super.renderSegment(connection, it, delta, matrix, packedLight, source, packedOverlay);
-        final int color = connection.getColor();
+    protected void render(final GarlandTinselConnection conn, final Curve catenary, final float delta, final PoseStack matrix, final MultiBufferSource source, final int packedLight, final int packedOverlay) {
+        super.render(conn, catenary, delta, matrix, source, packedLight, packedOverlay);
+        final int color = conn.getColor();
         final float r = ((color >> 16) & 0xFF) / 255.0F;
         final float g = ((color >> 8) & 0xFF) / 255.0F;
         final float b = (color & 0xFF) / 255.0F;
-        matrix.pushPose();
-        matrix.translate(it.getX(0.0F), it.getY(0.0F), it.getZ(0.0F));
-        matrix.mulPose(Axis.YP.rotation(-it.getYaw()));
-        matrix.mulPose(Axis.ZP.rotation(it.getPitch()));
-        final float length = it.getLength();
-        final int rings = Mth.ceil(length * 64);
-        final int hash = connection.getUUID().hashCode();
-        final int index = it.getIndex();
+        final int rings = DetailLevel.of(conn).getTinselRings();
         final VertexConsumer buf = ClientProxy.SOLID_TEXTURE.buffer(source, RenderType::entityCutout);
-        for (int i = 0; i < rings; i++) {
-            final double t = i / (float) rings * length;
+        if (catenary == conn.getCatenary()) {
+            ConnectionMesh mesh = this.meshes.get(conn);
+            if (mesh == null) {
+                this.meshes.put(conn, mesh = new ConnectionMesh());
+            }
+            if (!mesh.isFor(catenary, rings)) {
+                this.renderStrips(conn, catenary, rings, new PoseStack(), mesh.rebuild(catenary, rings), 0, 0, 1.0F, 1.0F, 1.0F);
+            }
+            mesh.render(matrix.last(), buf, r, g, b, packedLight, packedOverlay);
+        } else {
+            this.renderStrips(conn, catenary, rings, matrix, buf, packedLight, packedOverlay, r, g, b);
+        }
+    }
+
+    private void renderStrips(final GarlandTinselConnection connection, final Curve catenary, final int ringsPerBlock, final PoseStack matrix, final VertexConsumer buf, final int packedLight, final int packedOverlay, final float r, final float g, final float b) {
+        final int hash = connection.getUUID().hashCode();
+        final Curve.SegmentIterator it = catenary.iterator();
+        while (it.next()) {
             matrix.pushPose();
-            matrix.translate(t, 0.0F, 0.0F);
-            final float rotX = RAND.get(31 * (index + 31 * i) + hash) * 22;
-            final float rotY = RAND.get(31 * (index + 3 + 31 * i) + hash) * 180;
-            final float rotZ = RAND.get(31 * (index + 7 + 31 * i) + hash) * 180;
-            matrix.mulPose(Axis.XP.rotationDegrees(rotZ));
-            matrix.mulPose(Axis.YP.rotationDegrees(rotY));
-            matrix.mulPose(Axis.ZP.rotationDegrees(rotX));
-            matrix.scale(1.0F, RAND.get(i * 63) * 0.1F + 1.0F, 0.5F);
-            this.strip.renderToBuffer(matrix, buf, packedLight, packedOverlay, r, g, b, 1.0F);
+            matrix.translate(it.getX(0.0F), it.getY(0.0F), it.getZ(0.0F));
+            matrix.mulPose(Axis.YP.rotation(-it.getYaw()));
+            matrix.mulPose(Axis.ZP.rotation(it.getPitch()));
+            final float length = it.getLength();
+            final int rings = Mth.ceil(length * ringsPerBlock);
+            final int index = it.getIndex();
+            for (int i = 0; i < rings; i++) {
+                final double t = i / (float) rings * length;
+                matrix.pushPose();
+                matrix.translate(t, 0.0F, 0.0F);
+                final float rotX = RAND.get(31 * (index + 31 * i) + hash) * 22;
+                final float rotY = RAND.get(31 * (index + 3 + 31 * i) + hash) * 180;
+                final float rotZ = RAND.get(31 * (index + 7 + 31 * i) + hash) * 180;
+                matrix.mulPose(Axis.XP.rotationDegrees(rotZ));
+                matrix.mulPose(Axis.YP.rotationDegrees(rotY));
+                matrix.mulPose(Axis.ZP.rotationDegrees(rotX));
+                matrix.scale(1.0F, RAND.get(i * 63) * 0.1F + 1.0F, 0.5F);
+                this.strip.renderToBuffer(matrix, buf, packedLight, packedOverlay, r, g, b, 1.0F);
+                matrix.popPose();
+            }
             matrix.popPose();
         }
-        
-        matrix.popPose();
     }
 
     public static LayerDefinition wireLayer() {
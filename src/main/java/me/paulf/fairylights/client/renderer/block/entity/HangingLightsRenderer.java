@@ -11,11 +11,16 @@ import net.minecraft.client.model.geom.ModelLayerLocation;
 import net.minecraft.client.model.geom.ModelPart;
 import net.minecraft.client.model.geom.builders.LayerDefinition;
 import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 import java.util.function.Function;
 
 public class HangingLightsRenderer extends ConnectionRenderer<HangingLightsConnection> {
+    private static final float CULL_LENGTH = 16.0F;
+
+    private static final double LIGHT_EXTENT = 1.0D;
+
     private final LightRenderer lights;
 
     public HangingLightsRenderer(final Function<ModelLayerLocation, ModelPart> baker) {
@@ -35,12 +40,29 @@ public class HangingLightsRenderer extends ConnectionRenderer<HangingLightsConne
         if (lights == null) {
             return;
         }
-        final LightRenderer.Data data = this.lights.start(source);
+        final DetailLevel detail = DetailLevel.of(conn);
+        final LightBatch batch = LightBatch.INSTANCE;
+        final boolean batching = batch.accepts(source);
+        final LightRenderer.Data data = batching ? null : LightRenderer.start(source);
+        final Vec3 origin = conn.getFastener().getConnectionPoint();
+        final boolean cull = conn.getCatenary() != null && conn.getCatenary().getLength() > CULL_LENGTH;
+        final RenderStatistics statistics = RenderStatistics.INSTANCE;
         for (int i = 0; i < lights.length; i++) {
             final Light<?> light = lights[i];
-            final Vec3 pos = light.getPoint(delta);
+            final double x = light.getX(delta);
+            final double y = light.getY(delta);
+            final double z = light.getZ(delta);
+            if (cull && !FastenerRenderer.isVisible(new AABB(
+                origin.x + x - LIGHT_EXTENT, origin.y + y - LIGHT_EXTENT, origin.z + z - LIGHT_EXTENT,
+                origin.x + x + LIGHT_EXTENT, origin.y + y + LIGHT_EXTENT, origin.z + z + LIGHT_EXTENT
+            ))) {
+                continue;
+            }
+            if (statistics.isCounting()) {
+                statistics.visitLight();
+            }
             matrix.pushPose();
-            matrix.translate(pos.x, pos.y, pos.z);
+            matrix.translate(x, y, z);
             matrix.mulPose(Axis.YP.rotation(-light.getYaw(delta)));
             if (light.parallelsCord()) {
                 matrix.mulPose(Axis.ZP.rotation(light.getPitch(delta)));
@@ -50,7 +72,11 @@ public class HangingLightsRenderer extends ConnectionRenderer<HangingLightsConne
                 matrix.mulPose(Axis.YP.rotation(FLMth.mod(FLMth.hash(i) * FLMth.DEG_TO_RAD, FLMth.TAU) + FLMth.PI / 4.0F));
             }
             matrix.translate(0.0D, -light.getDescent(), 0.0D);
-            this.lights.render(matrix, data, light, i, delta, packedLight, packedOverlay);
+            if (batching) {
+                batch.add(this.lights, matrix, light, i, delta, packedLight, packedOverlay, detail);
+            } else {
+                this.lights.render(matrix, data, light, i, delta, packedLight, packedOverlay, detail);
+            }
             matrix.popPose();
         }
     }
@@ -1,5 +1,6 @@
 package me.paulf.fairylights.client.renderer.block.entity;
 
+import com.google.common.collect.MapMaker;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
@@ -17,9 +18,9 @@ import net.minecraft.client.model.geom.builders.LayerDefinition;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.Sheets;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.world.phys.Vec3;
 
 import java.util.Locale;
+import java.util.Map;
 import java.util.function.Function;
 
 public class LetterBuntingRenderer extends ConnectionRenderer<LetterBuntingConnection> {
@@ -30,6 +31,8 @@ public class LetterBuntingRenderer extends ConnectionRenderer<LetterBuntingConne
             Int2ObjectOpenHashMap::putAll
         );
 
+    private final Map<LetterBuntingConnection, ConnectionMesh> meshes = new MapMaker().weakKeys().makeMap();
+
     public LetterBuntingRenderer(final Function<ModelLayerLocation, ModelPart> baker) {
         super(baker, FLModelLayers.LETTER_WIRE);
     }
@@ -46,6 +49,31 @@ public class LetterBuntingRenderer extends ConnectionRenderer<LetterBuntingConne
             return;
         }
         final VertexConsumer buf = source.getBuffer(Sheets.cutoutBlockSheet());
+        // suspended letters rest where they froze until they resume and settle elsewhere
+        if (catenary == conn.getCatenary() && !conn.isSuspended() && isResting(letters)) {
+            ConnectionMesh mesh = this.meshes.get(conn);
+            if (mesh == null) {
+                this.meshes.put(conn, mesh = new ConnectionMesh());
+            }
+            if (!mesh.isFor(letters, 0, conn.getResumes())) {
+                this.renderLetters(letters, 1.0F, new PoseStack(), mesh.rebuild(letters, 0, conn.getResumes()), 0, 0);
+            }
+            mesh.render(matrix.last(), buf, 1.0F, 1.0F, 1.0F, packedLight, packedOverlay);
+        } else {
+            this.renderLetters(letters, delta, matrix, buf, packedLight, packedOverlay);
+        }
+    }
+
+    private static boolean isResting(final Letter[] letters) {
+        for (final Letter letter : letters) {
+            if (!letter.isResting()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void renderLetters(final Letter[] letters, final float delta, final PoseStack matrix, final VertexConsumer buf, final int packedLight, final int packedOverlay) {
         for (final Letter letter : letters) {
             final ResourceLocation path = MODELS.get(letter.getLetter());
             if (path == null) {
@@ -55,9 +83,8 @@ public class LetterBuntingRenderer extends ConnectionRenderer<LetterBuntingConne
             final float r = ((color >> 16) & 0xFF) / 255.0F;
             final float g = ((color >> 8) & 0xFF) / 255.0F;
             final float b = (color & 0xFF) / 255.0F;
-            final Vec3 pos = letter.getPoint(delta);
             matrix.pushPose();
-            matrix.translate(pos.x, pos.y, pos.z);
+            matrix.translate(letter.getX(delta), letter.getY(delta), letter.getZ(delta));
             matrix.mulPose(Axis.YP.rotation(-letter.getYaw(delta)));
             matrix.mulPose(Axis.ZP.rotation(letter.getPitch(delta)));
             matrix.mulPose(Axis.XP.rotation(letter.getRoll(delta)));
@@ -0,0 +1,236 @@
+package me.paulf.fairylights.client.renderer.block.entity;
+
+import com.google.common.collect.MapMaker;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import me.paulf.fairylights.client.ClientProxy;
+import me.paulf.fairylights.client.FLClientConfig;
+import me.paulf.fairylights.client.model.light.LightModel;
+import me.paulf.fairylights.server.feature.light.Light;
+import me.paulf.fairylights.server.feature.light.LightBehavior;
+import net.minecraft.Util;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraftforge.client.ForgeRenderTypes;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Lights of every connection rendered this frame, grouped by model and
+ * emitted together once block entities are done so each model is animated
+ * and written run after run instead of interleaved with wires and other
+ * light variants.
+ *
+ * <p>When enabled and a frame has enough lights they are split into
+ * contiguous slices whose geometry is generated on background workers, each
+ * with its own model instances, and then written to the buffer in order on
+ * the render thread.
+ */
+public final class LightBatch {
+    public static final LightBatch INSTANCE = new LightBatch();
+
+    private static final int PARALLEL_THRESHOLD = 1024;
+
+    private static final int MIN_SLICE = 256;
+
+    private final Reference2ObjectMap<LightModel<?>, Batch> batches = new Reference2ObjectLinkedOpenHashMap<>();
+
+    private final PoseStack matrix = new PoseStack();
+
+    private final ObjectArrayList<Instance> pending = new ObjectArrayList<>();
+
+    private final ObjectArrayList<Worker> workers = new ObjectArrayList<>();
+
+    private int size;
+
+    private LightBatch() {}
+
+    boolean accepts(final MultiBufferSource source) {
+        return RenderStatistics.unwrap(source) == Minecraft.getInstance().renderBuffers().bufferSource();
+    }
+
+    void add(final LightRenderer renderer, final PoseStack matrix, final Light<?> light, final int index, final float delta, final int packedLight, final int packedOverlay, final DetailLevel detail) {
+        final LightModel<?> model = renderer.getModel(light, index);
+        Batch batch = this.batches.get(model);
+        if (batch == null) {
+            this.batches.put(model, batch = new Batch(renderer, model));
+        }
+        batch.add(matrix.last(), light, index, delta, packedLight, packedOverlay, detail);
+        this.size++;
+    }
+
+    public void flush() {
+        if (this.batches.isEmpty()) {
+            return;
+        }
+        final MultiBufferSource.BufferSource source = Minecraft.getInstance().renderBuffers().bufferSource();
+        final RenderStatistics statistics = RenderStatistics.INSTANCE;
+        final long start = statistics.isCounting() ? System.nanoTime() : 0L;
+        final ProfilerFiller profiler = Minecraft.getInstance().getProfiler();
+        profiler.push("fairylights_lights");
+        if (this.size >= PARALLEL_THRESHOLD && FLClientConfig.RENDERING.parallelLights.get()) {
+            this.renderParallel(statistics.wrap(source));
+        } else {
+            this.render(statistics.wrap(source));
+        }
+        this.clear();
+        profiler.pop();
+        if (statistics.isCounting()) {
+            statistics.addNanos(System.nanoTime() - start);
+        }
+        source.endBatch(ClientProxy.SOLID_TEXTURE.renderType(RenderType::entityCutout));
+        source.endBatch(ClientProxy.TRANSLUCENT_TEXTURE.renderType(ForgeRenderTypes::getUnsortedTranslucent));
+    }
+
+    public void clear() {
+        for (final Batch batch : this.batches.values()) {
+            for (int i = 0; i < batch.size; i++) {
+                batch.instances.get(i).light = null;
+            }
+            batch.size = 0;
+        }
+        this.pending.clear();
+        this.size = 0;
+    }
+
+    private void render(final MultiBufferSource source) {
+        final LightRenderer.Data data = LightRenderer.start(source);
+        final PoseStack.Pose last = this.matrix.last();
+        for (final Batch batch : this.batches.values()) {
+            for (int i = 0; i < batch.size; i++) {
+                final Instance instance = batch.instances.get(i);
+                last.pose().set(instance.pose);
+                last.normal().set(instance.normal);
+                batch.render(this.matrix, data, instance);
+            }
+        }
+    }
+
+    private void renderParallel(final MultiBufferSource source) {
+        final int slices = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors() - 1, this.size / MIN_SLICE));
+        while (this.workers.size() < slices) {
+            this.workers.add(new Worker());
+        }
+        for (final Batch batch : this.batches.values()) {
+            for (int i = 0; i < batch.size; i++) {
+                this.pending.add(batch.instances.get(i));
+            }
+            if (batch.size > 0) {
+                for (int w = 0; w < slices; w++) {
+                    this.workers.get(w).prepare(batch.renderer);
+                }
+            }
+        }
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[slices];
+        for (int w = 0; w < slices; w++) {
+            final Worker worker = this.workers.get(w);
+            final int from = (int) ((long) this.size * w / slices);
+            final int to = (int) ((long) this.size * (w + 1) / slices);
+            futures[w] = CompletableFuture.runAsync(() -> worker.render(this.pending, from, to), Util.backgroundExecutor());
+        }
+        CompletableFuture.allOf(futures).join();
+        final VertexConsumer buf = ClientProxy.TRANSLUCENT_TEXTURE.buffer(source, ForgeRenderTypes::getUnsortedTranslucent);
+        for (int w = 0; w < slices; w++) {
+            this.workers.get(w).vertices.replay(buf);
+        }
+    }
+
+    private static final class Batch {
+        final LightRenderer renderer;
+
+        final LightModel<?> model;
+
+        final ObjectArrayList<Instance> instances = new ObjectArrayList<>();
+
+        int size;
+
+        Batch(final LightRenderer renderer, final LightModel<?> model) {
+            this.renderer = renderer;
+            this.model = model;
+        }
+
+        void add(final PoseStack.Pose last, final Light<?> light, final int index, final float delta, final int packedLight, final int packedOverlay, final DetailLevel detail) {
+            final Instance instance;
+            if (this.size < this.instances.size()) {
+                instance = this.instances.get(this.size);
+            } else {
+                this.instances.add(instance = new Instance());
+            }
+            this.size++;
+            instance.pose.set(last.pose());
+            instance.normal.set(last.normal());
+            instance.renderer = this.renderer;
+            instance.light = light;
+            instance.index = index;
+            instance.delta = delta;
+            instance.packedLight = packedLight;
+            instance.packedOverlay = packedOverlay;
+            instance.detail = detail;
+        }
+
+        @SuppressWarnings("unchecked")
+        <T extends LightBehavior> void render(final PoseStack matrix, final LightRenderer.Data data, final Instance instance) {
+            this.renderer.render(matrix, data, (Light<T>) instance.light, (LightModel<T>) this.model, instance.delta, instance.packedLight, instance.packedOverlay, instance.detail);
+        }
+    }
+
+    private static final class Instance {
+        final Matrix4f pose = new Matrix4f();
+
+        final Matrix3f normal = new Matrix3f();
+
+        LightRenderer renderer;
+
+        Light<?> light;
+
+        int index;
+
+        float delta;
+
+        int packedLight;
+
+        int packedOverlay;
+
+        DetailLevel detail;
+    }
+
+    private static final class Worker {
+        final Map<LightRenderer, LightRenderer> renderers = new MapMaker().weakKeys().makeMap();
+
+        final VertexList vertices = new VertexList();
+
+        final LightRenderer.Data data = LightRenderer.of(this.vertices);
+
+        final PoseStack matrix = new PoseStack();
+
+        void prepare(final LightRenderer renderer) {
+            this.renderers.computeIfAbsent(renderer, LightRenderer::copy);
+        }
+
+        void render(final ObjectArrayList<Instance> instances, final int from, final int to) {
+            this.vertices.clear();
+            final PoseStack.Pose last = this.matrix.last();
+            for (int i = from; i < to; i++) {
+                final Instance instance = instances.get(i);
+                last.pose().set(instance.pose);
+                last.normal().set(instance.normal);
+                this.render(instance);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        <T extends LightBehavior> void render(final Instance instance) {
+            final LightRenderer renderer = this.renderers.get(instance.renderer);
+            final LightModel<T> model = renderer.getModel(instance.light, instance.index);
+            renderer.render(this.matrix, this.data, (Light<T>) instance.light, model, instance.delta, instance.packedLight, instance.packedOverlay, instance.detail);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import me.paulf.fairylights.server.block.LightBlock;
 import me.paulf.fairylights.server.block.entity.LightBlockEntity;
 import me.paulf.fairylights.server.feature.light.Light;
 import me.paulf.fairylights.server.feature.light.LightBehavior;
+import me.paulf.fairylights.server.item.LightVariant;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.blockentity.BlockEntityRenderer;
 import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider;
@@ -28,14 +29,31 @@ public class LightBlockEntityRenderer implements BlockEntityRenderer<LightBlockE
 
     private <T extends LightBehavior> void render(final LightBlockEntity entity, final float delta, final PoseStack matrix, final MultiBufferSource source, final int packedLight, final int packedOverlay, final Light<T> light) {
         final LightModel<T> model = this.lights.getModel(light, -1);
-        final AABB box = model.getBounds();
         final BlockState state = entity.getBlockState();
+        matrix.pushPose();
+        transform(matrix, state, light.getVariant(), model);
+        if (isBaked(state, light.getVariant(), model)) {
+            this.lights.renderLit(matrix, LightRenderer.start(source), light, model, delta, packedLight, packedOverlay);
+        } else {
+            this.lights.render(matrix, LightRenderer.start(source), light, model, delta, packedLight, packedOverlay);
+        }
+        matrix.popPose();
+    }
+
+    /**
+     * Whether the unlit parts of the light in this state are baked into the
+     * chunk mesh by the block model rather than rendered here.
+     */
+    public static boolean isBaked(final BlockState state, final LightVariant<?> variant, final LightModel<?> model) {
+        return model.hasStaticUnlit() && state.getBlock() instanceof LightBlock && ((LightBlock) state.getBlock()).getVariant() == variant;
+    }
+
+    public static void transform(final PoseStack matrix, final BlockState state, final LightVariant<?> variant, final LightModel<?> model) {
         final AttachFace face = state.getValue(LightBlock.FACE);
         final float rotation = state.getValue(LightBlock.FACING).toYRot();
-        matrix.pushPose();
         matrix.translate(0.5D, 0.5D, 0.5D);
         matrix.mulPose(Axis.YP.rotationDegrees(180.0F - rotation));
-        if (light.getVariant().isOrientable()) {
+        if (variant.isOrientable()) {
             if (face == AttachFace.WALL) {
                 matrix.mulPose(Axis.XP.rotationDegrees(90.0F));
             } else if (face == AttachFace.FLOOR) {
@@ -48,10 +66,9 @@ public class LightBlockEntityRenderer implements BlockEntityRenderer<LightBlockE
             } else if (face == AttachFace.WALL) {
                 matrix.translate(0.0D, 3.0D / 16.0D, 0.125D);
             } else {
+                final AABB box = model.getBounds();
                 matrix.translate(0.0D, -box.minY - model.getFloorOffset() - 0.5D, 0.0D);
             }
         }
-        this.lights.render(matrix, this.lights.start(source), light, model, delta, packedLight, packedOverlay);
-        matrix.popPose();
     }
 }
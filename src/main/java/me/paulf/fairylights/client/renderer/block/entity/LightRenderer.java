@@ -62,9 +62,12 @@ public class LightRenderer {
 
     private final LightModelProvider<LightBehavior> defaultLight = LightModelProvider.of(new DefaultModel());
 
+    private final Function<ModelLayerLocation, ModelPart> baker;
+
     private final Map<LightVariant<?>, LightModelProvider<?>> lights;
 
     public LightRenderer(final Function<ModelLayerLocation, ModelPart> baker) {
+        this.baker = baker;
         lights = new ImmutableMap.Builder<LightVariant<?>, LightModelProvider<?>>()
             .put(SimpleLightVariant.FAIRY_LIGHT, LightModelProvider.of(new FairyLightModel(baker.apply(FLModelLayers.FAIRY_LIGHT))))
             .put(SimpleLightVariant.PAPER_LANTERN, LightModelProvider.of(new PaperLanternModel(baker.apply(FLModelLayers.PAPER_LANTERN))))
@@ -97,9 +100,20 @@ public class LightRenderer {
             .build();
     }
 
-    public Data start(final MultiBufferSource source) {
-        final VertexConsumer buf = ClientProxy.TRANSLUCENT_TEXTURE.buffer(source, ForgeRenderTypes::getUnsortedTranslucent);
-        ForwardingVertexConsumer translucent = new ForwardingVertexConsumer() {
+    /**
+     * A renderer with its own model instances, for animating and rendering
+     * lights off the render thread without sharing model state.
+     */
+    LightRenderer copy() {
+        return new LightRenderer(this.baker);
+    }
+
+    public static Data start(final MultiBufferSource source) {
+        return of(ClientProxy.TRANSLUCENT_TEXTURE.buffer(source, ForgeRenderTypes::getUnsortedTranslucent));
+    }
+
+    static Data of(final VertexConsumer buf) {
+        final ForwardingVertexConsumer translucent = new ForwardingVertexConsumer() {
             @Override
             protected VertexConsumer delegate() {
                 return buf;
@@ -126,9 +140,32 @@ public class LightRenderer {
         this.render(matrix, data, light, this.getModel(light, index), delta, packedLight, packedOverlay);
     }
 
+    public void render(final PoseStack matrix, final Data data, final Light<?> light, final int index, final float delta, final int packedLight, final int packedOverlay, final DetailLevel detail) {
+        this.render(matrix, data, light, this.getModel(light, index), delta, packedLight, packedOverlay, detail);
+    }
+
     public <T extends LightBehavior> void render(final PoseStack matrix, final Data data, final Light<T> light, final LightModel<T> model, final float delta, final int packedLight, final int packedOverlay) {
+        this.render(matrix, data, light, model, delta, packedLight, packedOverlay, DetailLevel.FULL);
+    }
+
+    public <T extends LightBehavior> void render(final PoseStack matrix, final Data data, final Light<T> light, final LightModel<T> model, final float delta, final int packedLight, final int packedOverlay, final DetailLevel detail) {
+        model.animate(light, light.getBehavior(), delta);
+        if (detail.hasFullLights()) {
+            model.renderToBuffer(matrix, data.solid, packedLight, packedOverlay, 1.0F, 1.0F, 1.0F, 1.0F);
+        } else {
+            model.renderBulb(matrix, data.solid, packedLight, packedOverlay, 1.0F, 1.0F, 1.0F, 1.0F);
+        }
+        if (detail.hasGlow()) {
+            model.renderTranslucent(matrix, data.translucent, packedLight, packedOverlay, 1.0F, 1.0F, 1.0F, 1.0F);
+        }
+    }
+
+    /**
+     * Renders only the lit parts of a light whose unlit parts are baked elsewhere.
+     */
+    public <T extends LightBehavior> void renderLit(final PoseStack matrix, final Data data, final Light<T> light, final LightModel<T> model, final float delta, final int packedLight, final int packedOverlay) {
         model.animate(light, light.getBehavior(), delta);
-        model.renderToBuffer(matrix, data.solid, packedLight, packedOverlay, 1.0F, 1.0F, 1.0F, 1.0F);
+        model.renderLit(matrix, data.solid, packedLight, packedOverlay, 1.0F, 1.0F, 1.0F, 1.0F);
         model.renderTranslucent(matrix, data.translucent, packedLight, packedOverlay, 1.0F, 1.0F, 1.0F, 1.0F);
     }
 
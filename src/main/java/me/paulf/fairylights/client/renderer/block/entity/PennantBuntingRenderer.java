@@ -3,6 +3,7 @@ package me.paulf.fairylights.client.renderer.block.entity;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.MapMaker;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
@@ -14,7 +15,6 @@ import me.paulf.fairylights.server.item.FLItems;
 import me.paulf.fairylights.util.Curve;
 import me.paulf.fairylights.util.styledstring.Style;
 import me.paulf.fairylights.util.styledstring.StyledString;
-import net.minecraft.ChatFormatting;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Font;
 import net.minecraft.client.model.geom.ModelLayerLocation;
@@ -24,12 +24,12 @@ import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.Sheets;
 import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.FormattedCharSequence;
 import net.minecraft.util.Mth;
 import net.minecraft.world.item.Item;
-import net.minecraft.world.phys.Vec3;
-import org.joml.Matrix3f;
-import org.joml.Vector3f;
+import org.joml.Matrix4f;
 
+import java.util.Map;
 import java.util.function.Function;
 
 public class PennantBuntingRenderer extends ConnectionRenderer<PennantBuntingConnection> {
@@ -50,6 +50,14 @@ public class PennantBuntingRenderer extends ConnectionRenderer<PennantBuntingCon
         FLItems.SQUARE_PENNANT.get(), SQUARE_MODEL
     );
 
+    private static final float TEXT_SCALE = 0.03075F;
+
+    private static final Matrix4f FRONT = new Matrix4f().translate(0.0F, -0.25F, 0.04F).scale(TEXT_SCALE, -TEXT_SCALE, TEXT_SCALE);
+
+    private static final Matrix4f BACK = new Matrix4f().translate(0.0F, -0.25F, -0.04F).scale(-TEXT_SCALE, -TEXT_SCALE, TEXT_SCALE);
+
+    private final Map<PennantBuntingConnection, TextLayout> layouts = new MapMaker().weakKeys().makeMap();
+
     public PennantBuntingRenderer(final Function<ModelLayerLocation, ModelPart> baker) {
         super(baker, FLModelLayers.PENNANT_WIRE, 0.25F);
     }
@@ -65,11 +73,10 @@ public class PennantBuntingRenderer extends ConnectionRenderer<PennantBuntingCon
             if (count == 0) {
                 return;
             }
-            StyledString text = conn.getText();
-            if (text.length() > count) {
-                text = text.substring(0, count);
+            TextLayout layout = this.layouts.get(conn);
+            if (layout == null || !layout.isFor(conn.getText(), count)) {
+                this.layouts.put(conn, layout = new TextLayout(font, conn.getText(), count));
             }
-            final int offset = (count - text.length()) / 2;
             for (int i = 0; i < count; i++) {
                 final Pennant currPennant = currLights[i];
                 final int color = currPennant.getColor();
@@ -77,53 +84,45 @@ public class PennantBuntingRenderer extends ConnectionRenderer<PennantBuntingCon
                 final float g = ((color >> 8) & 0xFF) / 255.0F;
                 final float b = (color & 0xFF) / 255.0F;
                 final BakedModel model = Minecraft.getInstance().getModelManager().getModel(this.models.getOrDefault(currPennant.getItem(), TRIANGLE_MODEL));
-                final Vec3 pos = currPennant.getPoint(delta);
                 matrix.pushPose();
-                matrix.translate(pos.x, pos.y, pos.z);
+                matrix.translate(currPennant.getX(delta), currPennant.getY(delta), currPennant.getZ(delta));
                 matrix.mulPose(Axis.YP.rotation(-currPennant.getYaw(delta)));
                 matrix.mulPose(Axis.ZP.rotation(currPennant.getPitch(delta)));
                 matrix.mulPose(Axis.XP.rotation(currPennant.getRoll(delta)));
                 matrix.pushPose();
                 FastenerRenderer.renderBakedModel(model, matrix, buf, r, g, b, packedLight, packedOverlay);
                 matrix.popPose();
-                if (i >= offset && i < offset + text.length()) {
-                    this.drawLetter(matrix, source, currPennant, packedLight, font, text, i - offset, 1, delta);
-                    this.drawLetter(matrix, source, currPennant, packedLight, font, text, text.length() - 1 - (i - offset), -1, delta);
+                final int index = i - layout.offset;
+                if (index >= 0 && index < layout.length()) {
+                    this.drawLetters(matrix, source, currPennant, packedLight, font, layout, index, delta);
                 }
                 matrix.popPose();
             }
         }
     }
 
-    private void drawLetter(final PoseStack matrix, final MultiBufferSource source, final Pennant pennant, final int packedLight, final Font font, final StyledString text, final int index, final int side, final float delta) {
-        final Style style = text.styleAt(index);
-        final StringBuilder bob = new StringBuilder();
-        if (style.isObfuscated()) bob.append(ChatFormatting.OBFUSCATED);
-        if (style.isBold()) bob.append(ChatFormatting.BOLD);
-        if (style.isStrikethrough()) bob.append(ChatFormatting.STRIKETHROUGH);
-        if (style.isUnderline()) bob.append(ChatFormatting.UNDERLINE);
-        if (style.isItalic()) bob.append(ChatFormatting.ITALIC);
-        bob.append(text.charAt(index));
-        final String chr = bob.toString();
-        final Matrix3f m = new Matrix3f();
-        m.rotate(Axis.YP.rotation(pennant.getYaw(delta)));
-        m.rotate(Axis.ZP.rotation(pennant.getPitch(delta)));
-        m.rotate(Axis.XP.rotation(pennant.getRoll(delta)));
-        final Vector3f v = new Vector3f(0.0F, 0.0F, side);
-        m.transform(v);
+    private void drawLetters(final PoseStack matrix, final MultiBufferSource source, final Pennant pennant, final int packedLight, final Font font, final TextLayout layout, final int index, final float delta) {
+        // direction of the front face, the rotation of (0, 0, 1) by yaw, pitch and roll
+        final float sinYaw = Mth.sin(pennant.getYaw(delta)), cosYaw = Mth.cos(pennant.getYaw(delta));
+        final float sinPitch = Mth.sin(pennant.getPitch(delta)), cosPitch = Mth.cos(pennant.getPitch(delta));
+        final float sinRoll = Mth.sin(pennant.getRoll(delta)), cosRoll = Mth.cos(pennant.getRoll(delta));
+        final float x = sinRoll * sinPitch * cosYaw + cosRoll * sinYaw;
+        final float y = -sinRoll * cosPitch;
+        final float z = cosRoll * cosYaw - sinRoll * sinPitch * sinYaw;
         // TODO: correct entity diffuse
-        final float brightness = diffuseLight(v.x(), v.y(), v.z());
-        final int styleColor = MoreObjects.firstNonNull(style.getColor().getColor(), 0xFFFFFF);
+        this.drawLetter(matrix, source, packedLight, font, layout, index, FRONT, diffuseLight(x, y, z));
+        this.drawLetter(matrix, source, packedLight, font, layout, layout.length() - 1 - index, BACK, diffuseLight(-x, -y, -z));
+    }
+
+    private void drawLetter(final PoseStack matrix, final MultiBufferSource source, final int packedLight, final Font font, final TextLayout layout, final int index, final Matrix4f side, final float brightness) {
+        final int styleColor = layout.colors[index];
         final int r = (int) ((styleColor >> 16 & 0xFF) * brightness);
         final int g = (int) ((styleColor >> 8 & 0xFF) * brightness);
         final int b = (int) ((styleColor & 0xFF) * brightness);
         final int argb = 0xFF000000 | r << 16 | g << 8 | b;
         matrix.pushPose();
-        matrix.translate(0.0F, -0.25F, 0.04F * side);
-        final float s = 0.03075F;
-        matrix.scale(s * side, -s, s);
-        final float w = font.width(chr);
-        font.drawInBatch(chr, -(w - 1.0F) / 2.0F, -4.0F, argb, false, matrix.last().pose(), source, Font.DisplayMode.NORMAL, 0, packedLight);
+        matrix.mulPoseMatrix(side);
+        font.drawInBatch(layout.glyphs[index], layout.x[index], -4.0F, argb, false, matrix.last().pose(), source, Font.DisplayMode.NORMAL, 0, packedLight);
         matrix.popPose();
     }
 
@@ -131,8 +130,59 @@ public class PennantBuntingRenderer extends ConnectionRenderer<PennantBuntingCon
         return Math.min(p_144949_ * p_144949_ * 0.6F + p_144950_ * p_144950_ * ((3.0F + p_144950_) / 4.0F) + p_144951_ * p_144951_ * 0.8F, 1.0F);
     }
 
-
     public static LayerDefinition wireLayer() {
         return WireModel.createLayer(0, 17, 1);
     }
+
+    /**
+     * The styled glyph, centering offset and colour of each letter of a
+     * connection's text, laid out once per text and pennant count.
+     */
+    private static final class TextLayout {
+        final StyledString text;
+
+        final int count;
+
+        final int generation;
+
+        final int offset;
+
+        final FormattedCharSequence[] glyphs;
+
+        final float[] x;
+
+        final int[] colors;
+
+        TextLayout(final Font font, final StyledString text, final int count) {
+            this.text = text;
+            this.count = count;
+            this.generation = ConnectionMesh.generation();
+            final int length = Math.min(text.length(), count);
+            this.offset = (count - length) / 2;
+            this.glyphs = new FormattedCharSequence[length];
+            this.x = new float[length];
+            this.colors = new int[length];
+            for (int i = 0; i < length; i++) {
+                final Style style = text.styleAt(i);
+                final FormattedCharSequence glyph = FormattedCharSequence.forward(String.valueOf(text.charAt(i)), net.minecraft.network.chat.Style.EMPTY
+                    .withObfuscated(style.isObfuscated())
+                    .withBold(style.isBold())
+                    .withStrikethrough(style.isStrikethrough())
+                    .withUnderlined(style.isUnderline())
+                    .withItalic(style.isItalic())
+                );
+                this.glyphs[i] = glyph;
+                this.x[i] = -(font.width(glyph) - 1.0F) / 2.0F;
+                this.colors[i] = MoreObjects.firstNonNull(style.getColor().getColor(), 0xFFFFFF);
+            }
+        }
+
+        boolean isFor(final StyledString text, final int count) {
+            return this.text == text && this.count == count && this.generation == ConnectionMesh.generation();
+        }
+
+        int length() {
+            return this.glyphs.length;
+        }
+    }
 }
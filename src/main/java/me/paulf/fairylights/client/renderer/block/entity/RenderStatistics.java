@@ -0,0 +1,222 @@
+package me.paulf.fairylights.client.renderer.block.entity;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import me.paulf.fairylights.client.FLClientConfig;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.annotation.Nullable;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Connections, lights and vertices emitted and time spent rendering them,
+ * counted over a frame while the debug screen is open or a dump is enabled.
+ * The totals of the previous frame are kept for display and, when dumping,
+ * written as a row to {@code logs/fairylights-render.csv}.
+ */
+public final class RenderStatistics {
+    public static final RenderStatistics INSTANCE = new RenderStatistics();
+
+    private static final Logger LOGGER = LogManager.getLogger();
+
+    private static final String DUMP_FILE = "fairylights-render.csv";
+
+    private boolean counting;
+
+    private int connections;
+
+    private int lights;
+
+    private int vertices;
+
+    private long nanos;
+
+    private int lastConnections;
+
+    private int lastLights;
+
+    private int lastVertices;
+
+    private long lastNanos;
+
+    @Nullable
+    private BufferedWriter dump;
+
+    private RenderStatistics() {}
+
+    public void startFrame() {
+        if (this.counting) {
+            this.lastConnections = this.connections;
+            this.lastLights = this.lights;
+            this.lastVertices = this.vertices;
+            this.lastNanos = this.nanos;
+        }
+        final boolean dumping = FLClientConfig.DEBUG.dumpRenderStatistics.get();
+        if (dumping) {
+            this.writeDump(this.counting);
+        } else if (this.dump != null) {
+            this.closeDump();
+        }
+        this.counting = dumping || Minecraft.getInstance().options.renderDebug;
+        this.connections = 0;
+        this.lights = 0;
+        this.vertices = 0;
+        this.nanos = 0L;
+    }
+
+    public boolean isCounting() {
+        return this.counting;
+    }
+
+    void visitConnection() {
+        this.connections++;
+    }
+
+    void visitLight() {
+        this.lights++;
+    }
+
+    void addNanos(final long nanos) {
+        this.nanos += nanos;
+    }
+
+    public int getConnections() {
+        return this.lastConnections;
+    }
+
+    public int getLights() {
+        return this.lastLights;
+    }
+
+    public int getVertices() {
+        return this.lastVertices;
+    }
+
+    public long getNanos() {
+        return this.lastNanos;
+    }
+
+    MultiBufferSource wrap(final MultiBufferSource source) {
+        return this.counting ? new CountingSource(source) : source;
+    }
+
+    static MultiBufferSource unwrap(final MultiBufferSource source) {
+        return source instanceof CountingSource ? ((CountingSource) source).source : source;
+    }
+
+    private void writeDump(final boolean row) {
+        try {
+            if (this.dump == null) {
+                final Path path = Minecraft.getInstance().gameDirectory.toPath().resolve("logs").resolve(DUMP_FILE);
+                Files.createDirectories(path.getParent());
+                this.dump = Files.newBufferedWriter(path);
+                this.dump.write("time,connections,lights,vertices,nanos");
+                this.dump.newLine();
+            } else if (row) {
+                this.dump.write(System.currentTimeMillis() + "," + this.lastConnections + "," + this.lastLights + "," + this.lastVertices + "," + this.lastNanos);
+                this.dump.newLine();
+                // flushed each row so a crash, when the numbers matter most, does not lose them
+                this.dump.flush();
+            }
+        } catch (final IOException e) {
+            LOGGER.warn("Unable to write render statistics", e);
+            this.closeDump();
+        }
+    }
+
+    private void closeDump() {
+        if (this.dump != null) {
+            try {
+                this.dump.close();
+            } catch (final IOException e) {
+                LOGGER.warn("Unable to close render statistics", e);
+            }
+            this.dump = null;
+        }
+    }
+
+    private final class CountingSource implements MultiBufferSource {
+        final MultiBufferSource source;
+
+        CountingSource(final MultiBufferSource source) {
+            this.source = source;
+        }
+
+        @Override
+        public VertexConsumer getBuffer(final RenderType type) {
+            return new CountingVertexConsumer(this.source.getBuffer(type));
+        }
+    }
+
+    private final class CountingVertexConsumer implements VertexConsumer {
+        final VertexConsumer delegate;
+
+        CountingVertexConsumer(final VertexConsumer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void vertex(final float x, final float y, final float z, final float r, final float g, final float b, final float a, final float u, final float v, final int overlay, final int light, final float nx, final float ny, final float nz) {
+            this.delegate.vertex(x, y, z, r, g, b, a, u, v, overlay, light, nx, ny, nz);
+            RenderStatistics.this.vertices++;
+        }
+
+        @Override
+        public VertexConsumer vertex(final double x, final double y, final double z) {
+            this.delegate.vertex(x, y, z);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer color(final int r, final int g, final int b, final int a) {
+            this.delegate.color(r, g, b, a);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer uv(final float u, final float v) {
+            this.delegate.uv(u, v);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer overlayCoords(final int u, final int v) {
+            this.delegate.overlayCoords(u, v);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer uv2(final int u, final int v) {
+            this.delegate.uv2(u, v);
+            return this;
+        }
+
+        @Override
+        public VertexConsumer normal(final float x, final float y, final float z) {
+            this.delegate.normal(x, y, z);
+            return this;
+        }
+
+        @Override
+        public void endVertex() {
+            this.delegate.endVertex();
+            RenderStatistics.this.vertices++;
+        }
+
+        @Override
+        public void defaultColor(final int r, final int g, final int b, final int a) {
+            this.delegate.defaultColor(r, g, b, a);
+        }
+
+        @Override
+        public void unsetDefaultColor() {
+            this.delegate.unsetDefaultColor();
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package me.paulf.fairylights.client.renderer.block.entity;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+
+import java.util.Arrays;
+
+/**
+ * Fully specified vertices collected away from the render thread, to be
+ * replayed in order into a real buffer once generation has finished.
+ */
+final class VertexList implements VertexConsumer {
+    private static final int STRIDE = 14;
+
+    private float[] data = new float[STRIDE * 1024];
+
+    private int size;
+
+    private float x, y, z, r, g, b, a, u, v, nx, ny, nz;
+
+    private int overlay, light;
+
+    void clear() {
+        this.size = 0;
+    }
+
+    void replay(final VertexConsumer buf) {
+        final float[] d = this.data;
+        for (int i = 0; i < this.size; i += STRIDE) {
+            buf.vertex(
+                d[i], d[i + 1], d[i + 2],
+                d[i + 3], d[i + 4], d[i + 5], d[i + 6],
+                d[i + 7], d[i + 8],
+                Float.floatToRawIntBits(d[i + 9]), Float.floatToRawIntBits(d[i + 10]),
+                d[i + 11], d[i + 12], d[i + 13]
+            );
+        }
+    }
+
+    @Override
+    public void vertex(final float x, final float y, final float z, final float r, final float g, final float b, final float a, final float u, final float v, final int overlay, final int light, final float nx, final float ny, final float nz) {
+        if (this.size + STRIDE > this.data.length) {
+            this.data = Arrays.copyOf(this.data, this.data.length * 2);
+        }
+        final float[] d = this.data;
+        final int i = this.size;
+        d[i] = x;
+        d[i + 1] = y;
+        d[i + 2] = z;
+        d[i + 3] = r;
+        d[i + 4] = g;
+        d[i + 5] = b;
+        d[i + 6] = a;
+        d[i + 7] = u;
+        d[i + 8] = v;
+        d[i + 9] = Float.intBitsToFloat(overlay);
+        d[i + 10] = Float.intBitsToFloat(light);
+        d[i + 11] = nx;
+        d[i + 12] = ny;
+        d[i + 13] = nz;
+        this.size += STRIDE;
+    }
+
+    @Override
+    public VertexConsumer vertex(final double x, final double y, final double z) {
+        this.x = (float) x;
+        this.y = (float) y;
+        this.z = (float) z;
+        return this;
+    }
+
+    @Override
+    public VertexConsumer color(final int r, final int g, final int b, final int a) {
+        this.r = r / 255.0F;
+        this.g = g / 255.0F;
+        this.b = b / 255.0F;
+        this.a = a / 255.0F;
+        return this;
+    }
+
+    @Override
+    public VertexConsumer uv(final float u, final float v) {
+        this.u = u;
+        this.v = v;
+        return this;
+    }
+
+    @Override
+    public VertexConsumer overlayCoords(final int u, final int v) {
+        this.overlay = u & 0xFFFF | v << 16;
+        return this;
+    }
+
+    @Override
+    public VertexConsumer uv2(final int u, final int v) {
+        this.light = u & 0xFFFF | v << 16;
+        return this;
+    }
+
+    @Override
+    public VertexConsumer normal(final float x, final float y, final float z) {
+        this.nx = x;
+        this.ny = y;
+        this.nz = z;
+        return this;
+    }
+
+    @Override
+    public void endVertex() {
+        this.vertex(this.x, this.y, this.z, this.r, this.g, this.b, this.a, this.u, this.v, this.overlay, this.light, this.nx, this.ny, this.nz);
+    }
+
+    @Override
+    public void defaultColor(final int r, final int g, final int b, final int a) {}
+
+    @Override
+    public void unsetDefaultColor() {}
+}
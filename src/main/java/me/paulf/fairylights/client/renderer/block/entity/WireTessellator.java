@@ -0,0 +1,264 @@
+package me.paulf.fairylights.client.renderer.block.entity;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import me.paulf.fairylights.util.Curve;
+import net.minecraft.util.Mth;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+
+/**
+ * Emits a wire as one continuous tube along the points of a curve. The
+ * cross section, texture coordinates and winding are taken from the sides
+ * of the wire model, and ring vertices are computed once per point and
+ * shared by the segments either side of it instead of transforming a whole
+ * cube per segment.
+ */
+final class WireTessellator {
+    private static final int RING_STRIDE = 6;
+
+    private final float[] edgeX;
+
+    private final float[] edgeY;
+
+    private final float[] edgeNormalX;
+
+    private final float[] edgeNormalY;
+
+    private final float[] edgeU;
+
+    private final float[] edgeV;
+
+    private final int[] faces;
+
+    private float[] prevRing;
+
+    private float[] ring;
+
+    private final Vector4f pos = new Vector4f();
+
+    private final Vector3f normal = new Vector3f();
+
+    private WireTessellator(final float[] edges, final int[] faces) {
+        final int count = edges.length / 6;
+        this.edgeX = new float[count];
+        this.edgeY = new float[count];
+        this.edgeNormalX = new float[count];
+        this.edgeNormalY = new float[count];
+        this.edgeU = new float[count];
+        this.edgeV = new float[count];
+        for (int e = 0; e < count; e++) {
+            this.edgeX[e] = edges[e * 6];
+            this.edgeY[e] = edges[e * 6 + 1];
+            this.edgeNormalX[e] = edges[e * 6 + 2];
+            this.edgeNormalY[e] = edges[e * 6 + 3];
+            this.edgeU[e] = edges[e * 6 + 4];
+            this.edgeV[e] = edges[e * 6 + 5];
+        }
+        this.faces = faces;
+        this.prevRing = new float[count * RING_STRIDE];
+        this.ring = new float[count * RING_STRIDE];
+    }
+
+    void tessellate(final Curve cat, final int step, final PoseStack.Pose last, final VertexConsumer buf, final int packedLight, final int packedOverlay, final float r, final float g, final float b) {
+        final int end = cat.getCount() - 1;
+        if (end < 1) {
+            return;
+        }
+        float sideX = 0.0F, sideZ = 0.0F, upX = 0.0F, upY = 1.0F, upZ = 0.0F;
+        float yaw = 0.0F;
+        int i = 0;
+        while (i < end) {
+            final int j = Math.min(i + step, end);
+            final float dx = cat.getX(j) - cat.getX(i);
+            final float dy = cat.getY(j) - cat.getY(i);
+            final float dz = cat.getZ(j) - cat.getZ(i);
+            final float h = Mth.sqrt(dx * dx + dz * dz);
+            if (h > 1.0e-6F) {
+                yaw = (float) Mth.atan2(dz, dx);
+            }
+            final float pitch = (float) Mth.atan2(dy, h);
+            final float cy = Mth.cos(yaw), sy = Mth.sin(yaw);
+            final float cp = Mth.cos(pitch), sp = Mth.sin(pitch);
+            final float nextSideX = sy, nextSideZ = -cy;
+            final float nextUpX = -sp * cy, nextUpY = cp, nextUpZ = -sp * sy;
+            if (i == 0) {
+                this.computeRing(cat, 0, nextSideX, nextSideZ, nextUpX, nextUpY, nextUpZ);
+            } else {
+                this.computeRing(cat, i, sideX + nextSideX, sideZ + nextSideZ, upX + nextUpX, upY + nextUpY, upZ + nextUpZ);
+                this.emit(last, buf, packedLight, packedOverlay, r, g, b);
+            }
+            sideX = nextSideX;
+            sideZ = nextSideZ;
+            upX = nextUpX;
+            upY = nextUpY;
+            upZ = nextUpZ;
+            i = j;
+        }
+        this.computeRing(cat, end, sideX, sideZ, upX, upY, upZ);
+        this.emit(last, buf, packedLight, packedOverlay, r, g, b);
+    }
+
+    private void computeRing(final Curve cat, final int index, float sideX, float sideZ, float upX, float upY, float upZ) {
+        final float sideLength = Mth.sqrt(sideX * sideX + sideZ * sideZ);
+        final float upLength = Mth.sqrt(upX * upX + upY * upY + upZ * upZ);
+        if (sideLength > 1.0e-4F && upLength > 1.0e-4F) {
+            sideX /= sideLength;
+            sideZ /= sideLength;
+            upX /= upLength;
+            upY /= upLength;
+            upZ /= upLength;
+        }
+        final float x = cat.getX(index);
+        final float y = cat.getY(index);
+        final float z = cat.getZ(index);
+        final float[] next = this.prevRing;
+        this.prevRing = this.ring;
+        this.ring = next;
+        for (int e = 0, o = 0; e < this.edgeX.length; e++, o += RING_STRIDE) {
+            final float ex = this.edgeX[e], ey = this.edgeY[e];
+            final float nx = this.edgeNormalX[e], ny = this.edgeNormalY[e];
+            next[o] = x + sideX * ex + upX * ey;
+            next[o + 1] = y + upY * ey;
+            next[o + 2] = z + sideZ * ex + upZ * ey;
+            next[o + 3] = sideX * nx + upX * ny;
+            next[o + 4] = upY * ny;
+            next[o + 5] = sideZ * nx + upZ * ny;
+        }
+    }
+
+    private void emit(final PoseStack.Pose last, final VertexConsumer buf, final int packedLight, final int packedOverlay, final float r, final float g, final float b) {
+        final Matrix4f pose = last.pose();
+        final Matrix3f normals = last.normal();
+        for (final int vertex : this.faces) {
+            final int e = vertex >> 1;
+            final float[] ring = (vertex & 1) == 0 ? this.prevRing : this.ring;
+            final int o = e * RING_STRIDE;
+            this.pos.set(ring[o], ring[o + 1], ring[o + 2], 1.0F);
+            pose.transform(this.pos);
+            this.normal.set(ring[o + 3], ring[o + 4], ring[o + 5]);
+            normals.transform(this.normal);
+            buf.vertex(
+                this.pos.x(), this.pos.y(), this.pos.z(),
+                r, g, b, 1.0F,
+                this.edgeU[e], this.edgeV[e],
+                packedOverlay, packedLight,
+                this.normal.x(), this.normal.y(), this.normal.z()
+            );
+        }
+    }
+
+    static WireTessellator of(final ConnectionRenderer.WireModel model, final float inflate) {
+        final Capture capture = new Capture();
+        model.renderToBuffer(new PoseStack(), capture, 0, 0, 1.0F, 1.0F, 1.0F, 1.0F);
+        final float[] v = capture.vertices.toFloatArray();
+        float depth = 0.0F;
+        for (int i = 0; i < v.length; i += Capture.STRIDE) {
+            depth = Math.max(depth, v[i + 2]);
+        }
+        final FloatArrayList edges = new FloatArrayList();
+        final IntArrayList faces = new IntArrayList();
+        for (int f = 0; f + 4 * Capture.STRIDE <= v.length; f += 4 * Capture.STRIDE) {
+            // Caps face along the wire and are hidden by the neighbouring segment or fastener
+            if (Math.abs(v[f + 7]) > 0.5F) {
+                continue;
+            }
+            final int first = edges.size() / 6;
+            int edgeCount = 0;
+            final int[] face = new int[4];
+            for (int n = 0; n < 4; n++) {
+                final int o = f + n * Capture.STRIDE;
+                final float x = v[o], y = v[o + 1];
+                int edge = -1;
+                for (int k = 0; k < edgeCount; k++) {
+                    if (edges.getFloat((first + k) * 6) == x * (1.0F + inflate) && edges.getFloat((first + k) * 6 + 1) == y) {
+                        edge = first + k;
+                    }
+                }
+                if (edge == -1) {
+                    edge = first + edgeCount++;
+                    edges.add(x * (1.0F + inflate));
+                    edges.add(y);
+                    edges.add(v[o + 5]);
+                    edges.add(v[o + 6]);
+                    edges.add(v[o + 3] * 0.5F);
+                    edges.add(v[o + 4] * 0.5F);
+                } else {
+                    edges.set(edge * 6 + 4, edges.getFloat(edge * 6 + 4) + v[o + 3] * 0.5F);
+                    edges.set(edge * 6 + 5, edges.getFloat(edge * 6 + 5) + v[o + 4] * 0.5F);
+                }
+                face[n] = edge << 1 | (v[o + 2] > depth * 0.5F ? 1 : 0);
+            }
+            faces.addElements(faces.size(), face);
+        }
+        return new WireTessellator(edges.toFloatArray(), faces.toIntArray());
+    }
+
+    private static final class Capture implements VertexConsumer {
+        static final int STRIDE = 8;
+
+        final FloatArrayList vertices = new FloatArrayList();
+
+        private float x, y, z, u, v, nx, ny, nz;
+
+        @Override
+        public VertexConsumer vertex(final double x, final double y, final double z) {
+            this.x = (float) x;
+            this.y = (float) y;
+            this.z = (float) z;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer color(final int r, final int g, final int b, final int a) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer uv(final float u, final float v) {
+            this.u = u;
+            this.v = v;
+            return this;
+        }
+
+        @Override
+        public VertexConsumer overlayCoords(final int u, final int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer uv2(final int u, final int v) {
+            return this;
+        }
+
+        @Override
+        public VertexConsumer normal(final float x, final float y, final float z) {
+            this.nx = x;
+            this.ny = y;
+            this.nz = z;
+            return this;
+        }
+
+        @Override
+        public void endVertex() {
+            this.vertices.add(this.x);
+            this.vertices.add(this.y);
+            this.vertices.add(this.z);
+            this.vertices.add(this.u);
+            this.vertices.add(this.v);
+            this.vertices.add(this.nx);
+            this.vertices.add(this.ny);
+            this.vertices.add(this.nz);
+        }
+
+        @Override
+        public void defaultColor(final int r, final int g, final int b, final int a) {}
+
+        @Override
+        public void unsetDefaultColor() {}
+    }
+}
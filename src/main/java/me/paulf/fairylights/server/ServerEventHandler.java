@@ -8,6 +8,7 @@ import me.paulf.fairylights.server.capability.CapabilityHandler;
 import me.paulf.fairylights.server.connection.HangingLightsConnection;
 import me.paulf.fairylights.server.entity.FenceFastenerEntity;
 import me.paulf.fairylights.server.fastener.BlockFastener;
+import me.paulf.fairylights.server.fastener.FastenerIndex;
 import me.paulf.fairylights.server.fastener.FenceFastener;
 import me.paulf.fairylights.server.fastener.PlayerFastener;
 import me.paulf.fairylights.server.feature.light.Light;
@@ -44,7 +45,9 @@ import net.minecraft.world.phys.AABB;
 import net.minecraftforge.event.AttachCapabilitiesEvent;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
+import net.minecraftforge.event.level.LevelEvent;
 import net.minecraftforge.event.level.NoteBlockEvent;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.EventPriority;
@@ -69,6 +72,24 @@ public final class ServerEventHandler {
         if (entity instanceof Player || entity instanceof FenceFastenerEntity) {
             entity.getCapability(CapabilityHandler.FASTENER_CAP).ifPresent(f -> f.setWorld(event.getLevel()));
         }
+        if (entity instanceof FenceFastenerEntity) {
+            entity.getCapability(CapabilityHandler.FASTENER_CAP).ifPresent(FastenerIndex.get(event.getLevel())::add);
+        }
+    }
+
+    @SubscribeEvent
+    public void onEntityLeaveWorld(final EntityLeaveLevelEvent event) {
+        final Entity entity = event.getEntity();
+        if (entity instanceof FenceFastenerEntity) {
+            entity.getCapability(CapabilityHandler.FASTENER_CAP).ifPresent(FastenerIndex.get(event.getLevel())::remove);
+        }
+    }
+
+    @SubscribeEvent
+    public void onWorldUnload(final LevelEvent.Unload event) {
+        if (event.getLevel() instanceof Level) {
+            FastenerIndex.unload((Level) event.getLevel());
+        }
     }
 
     @SubscribeEvent
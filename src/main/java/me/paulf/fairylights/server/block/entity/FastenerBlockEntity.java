@@ -4,6 +4,7 @@ import me.paulf.fairylights.server.block.FLBlocks;
 import me.paulf.fairylights.server.block.FastenerBlock;
 import me.paulf.fairylights.server.capability.CapabilityHandler;
 import me.paulf.fairylights.server.fastener.Fastener;
+import me.paulf.fairylights.server.fastener.FastenerIndex;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
@@ -68,9 +69,26 @@ public final class FastenerBlockEntity extends BlockEntity {
         be.getFastener().ifPresent(Fastener::update);
     }
 
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        this.getFastener().ifPresent(fastener -> FastenerIndex.get(this.level).add(fastener));
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        this.getFastener().ifPresent(fastener -> FastenerIndex.get(this.level).remove(fastener));
+    }
+
     @Override
     public void setRemoved() {
-        this.getFastener().ifPresent(Fastener::remove);
+        this.getFastener().ifPresent(fastener -> {
+            fastener.remove();
+            if (this.level != null) {
+                FastenerIndex.get(this.level).remove(fastener);
+            }
+        });
         super.setRemoved();
     }
 
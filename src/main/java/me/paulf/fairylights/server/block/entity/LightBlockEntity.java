@@ -2,15 +2,16 @@ package me.paulf.fairylights.server.block.entity;
 
 import me.paulf.fairylights.server.block.LightBlock;
 import me.paulf.fairylights.server.feature.light.Light;
+import me.paulf.fairylights.server.feature.light.LightClock;
+import me.paulf.fairylights.server.feature.light.LightStates;
 import me.paulf.fairylights.server.item.LightVariant;
 import me.paulf.fairylights.server.item.SimpleLightVariant;
 import me.paulf.fairylights.server.sound.FLSounds;
-import me.paulf.fairylights.util.FLMth;
-import me.paulf.fairylights.util.matrix.MatrixStack;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.Mth;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
@@ -28,7 +29,7 @@ public class LightBlockEntity extends BlockEntity {
 
     public LightBlockEntity(BlockPos pos, BlockState state) {
         super(FLBlockEntities.LIGHT.get(), pos, state);
-        this.light = new Light<>(0, Vec3.ZERO, 0.0F, 0.0F, ItemStack.EMPTY, SimpleLightVariant.FAIRY_LIGHT, 0.0F);
+        this.light = new Light<>(new LightStates(pos.asLong(), LightClock.NONE), 0, Vec3.ZERO, 0.0F, 0.0F, ItemStack.EMPTY, SimpleLightVariant.FAIRY_LIGHT, 0.0F);
     }
 
     public Light<?> getLight() {
@@ -36,7 +37,7 @@ public class LightBlockEntity extends BlockEntity {
     }
 
     public void setItemStack(final ItemStack stack) {
-        this.light = new Light<>(0, Vec3.ZERO, 0.0F, 0.0F, stack, LightVariant.get(stack).orElse(SimpleLightVariant.FAIRY_LIGHT), 0.0F);
+        this.light = new Light<>(new LightStates(this.worldPosition.asLong(), LightClock.of(this.level)), 0, Vec3.ZERO, 0.0F, 0.0F, stack, LightVariant.get(stack).orElse(SimpleLightVariant.FAIRY_LIGHT), 0.0F);
         this.setChanged();
     }
 
@@ -65,26 +66,33 @@ public class LightBlockEntity extends BlockEntity {
         final BlockState state = this.getBlockState();
         final AttachFace face = state.getValue(LightBlock.FACE);
         final float rotation = state.getValue(LightBlock.FACING).toYRot();
-        final MatrixStack matrix = new MatrixStack();
-        matrix.translate(0.5F, 0.5F, 0.5F);
-        matrix.rotate((float) Math.toRadians(180.0F - rotation), 0.0F, 1.0F, 0.0F);
+        // offset of the light from the block centre before turning to face, orientable lights
+        // sit half a block out along y turned a quarter turn about x on walls and a half on floors
+        final float y, z;
         if (this.light.getVariant().isOrientable()) {
             if (face == AttachFace.WALL) {
-                matrix.rotate(FLMth.HALF_PI, 1.0F, 0.0F, 0.0F);
-            } else if (face == AttachFace.FLOOR) {
-                matrix.rotate(-FLMth.PI, 1.0F, 0.0F, 0.0F);
-            }
-            matrix.translate(0.0F, 0.5F, 0.0F);
-        } else {
-            if (face == AttachFace.CEILING) {
-                matrix.translate(0.0F, 0.25F, 0.0F);
-            } else if (face == AttachFace.WALL) {
-                matrix.translate(0.0F, 3.0F / 16.0F, 0.125F);
+                y = 0.0F;
+                z = 0.5F;
             } else {
-                matrix.translate(0.0F, -(float) this.light.getVariant().getBounds().minY - 0.5F, 0.0F);
+                y = face == AttachFace.FLOOR ? -0.5F : 0.5F;
+                z = 0.0F;
             }
+        } else if (face == AttachFace.CEILING) {
+            y = 0.25F;
+            z = 0.0F;
+        } else if (face == AttachFace.WALL) {
+            y = 3.0F / 16.0F;
+            z = 0.125F;
+        } else {
+            y = -(float) this.light.getVariant().getBounds().minY - 0.5F;
+            z = 0.0F;
         }
-        this.light.getBehavior().animateTick(this.level, Vec3.atLowerCornerOf(this.worldPosition).add(matrix.transform(Vec3.ZERO)), this.light);
+        final float angle = (float) Math.toRadians(180.0F - rotation);
+        final float cos = Mth.cos(angle);
+        final float sin = Mth.sin(angle);
+        final BlockPos pos = this.worldPosition;
+        final Vec3 origin = new Vec3(pos.getX() + 0.5D + sin * z, pos.getY() + 0.5D + y, pos.getZ() + 0.5D + cos * z);
+        this.light.getBehavior().animateTick(this.level, origin, this.light);
     }
 
     @Override
@@ -1,14 +1,31 @@
 package me.paulf.fairylights.server.collision;
 
+import me.paulf.fairylights.server.feature.FeatureType;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 import javax.annotation.Nullable;
 
 public interface Collidable {
     @Nullable
-    Intersection intersect(final Vec3 origin, final Vec3 end);
+    default Intersection intersect(final Vec3 origin, final Vec3 end) {
+        return this.intersect(origin, end, CollisionStatistics.NONE);
+    }
+
+    @Nullable
+    Intersection intersect(final Vec3 origin, final Vec3 end, final CollisionStatistics statistics);
+
+    default boolean contains(final Vec3 point, final FeatureType type, final int id, final double tolerance) {
+        return false;
+    }
+
+    default void visitBounds(final BoundsVisitor visitor) {}
 
     static Collidable empty() {
-        return (o, e) -> null;
+        return (o, e, s) -> null;
+    }
+
+    interface BoundsVisitor {
+        void visit(final AABB bounds, final int depth, final boolean leaf);
     }
 }
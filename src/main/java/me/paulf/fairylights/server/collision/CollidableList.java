@@ -1,6 +1,7 @@
 package me.paulf.fairylights.server.collision;
 
 import com.google.common.collect.ImmutableList;
+import me.paulf.fairylights.server.feature.FeatureType;
 import net.minecraft.world.phys.Vec3;
 
 import javax.annotation.Nullable;
@@ -14,11 +15,11 @@ public final class CollidableList implements Collidable {
 
     @Nullable
     @Override
-    public Intersection intersect(final Vec3 origin, final Vec3 end) {
+    public Intersection intersect(final Vec3 origin, final Vec3 end, final CollisionStatistics statistics) {
         Intersection result = null;
         double distance = Double.MAX_VALUE;
         for (final Collidable collidable : this.collision) {
-            final Intersection r = collidable.intersect(origin, end);
+            final Intersection r = collidable.intersect(origin, end, statistics);
             if (r != null) {
                 final double d = r.getResult().distanceTo(origin);
                 if (d < distance) {
@@ -30,6 +31,23 @@ public final class CollidableList implements Collidable {
         return result;
     }
 
+    @Override
+    public boolean contains(final Vec3 point, final FeatureType type, final int id, final double tolerance) {
+        for (final Collidable collidable : this.collision) {
+            if (collidable.contains(point, type, id, tolerance)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void visitBounds(final BoundsVisitor visitor) {
+        for (final Collidable collidable : this.collision) {
+            collidable.visitBounds(visitor);
+        }
+    }
+
     public static class Builder {
         final ImmutableList.Builder<Collidable> collision = new ImmutableList.Builder<>();
 
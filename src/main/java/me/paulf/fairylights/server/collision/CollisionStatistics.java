@@ -0,0 +1,36 @@
+package me.paulf.fairylights.server.collision;
+
+public class CollisionStatistics {
+    public static final CollisionStatistics NONE = new CollisionStatistics() {
+        @Override
+        public void visitTree() {}
+
+        @Override
+        public void visitNode() {}
+    };
+
+    private int trees;
+
+    private int nodes;
+
+    public void visitTree() {
+        this.trees++;
+    }
+
+    public void visitNode() {
+        this.nodes++;
+    }
+
+    public int getTrees() {
+        return this.trees;
+    }
+
+    public int getNodes() {
+        return this.nodes;
+    }
+
+    public void reset() {
+        this.trees = 0;
+        this.nodes = 0;
+    }
+}
@@ -26,12 +26,14 @@ public final class FeatureCollisionTree implements Collidable {
 
     @Nullable
     @Override
-    public Intersection intersect(final Vec3 origin, final Vec3 end) {
-        return this.intersect(origin, end, 0);
+    public Intersection intersect(final Vec3 origin, final Vec3 end, final CollisionStatistics statistics) {
+        statistics.visitTree();
+        return this.intersect(origin, end, statistics, 0);
     }
 
     @Nullable
-    private Intersection intersect(final Vec3 origin, final Vec3 end, final int node) {
+    private Intersection intersect(final Vec3 origin, final Vec3 end, final CollisionStatistics statistics, final int node) {
+        statistics.visitNode();
         final Vec3 result;
         if (this.tree[node].contains(origin)) {
             result = origin;
@@ -48,14 +50,42 @@ public final class FeatureCollisionTree implements Collidable {
             return new Intersection(result, this.tree[node], this.type, this.nodeToFeature[node]);
         }
         // Intersect left
-        final Intersection intersection = this.intersect(origin, end, nL);
+        final Intersection intersection = this.intersect(origin, end, statistics, nL);
         if (intersection != null) {
             return intersection;
         }
         // Intersect right
-        return this.intersect(origin, end, node * 2 + 2);
+        return this.intersect(origin, end, statistics, node * 2 + 2);
     }
 
+    @Override
+    public boolean contains(final Vec3 point, final FeatureType type, final int id, final double tolerance) {
+        return this.type == type && this.contains(point, id, tolerance, 0);
+    }
+
+    private boolean contains(final Vec3 point, final int id, final double tolerance, final int node) {
+        final AABB bounds = this.tree[node];
+        if (point.x < bounds.minX - tolerance || point.x > bounds.maxX + tolerance ||
+            point.y < bounds.minY - tolerance || point.y > bounds.maxY + tolerance ||
+            point.z < bounds.minZ - tolerance || point.z > bounds.maxZ + tolerance) {
+            return false;
+        }
+        final int nL = node * 2 + 1;
+        if (nL >= this.tree.length || this.tree[nL] == null) {
+            return this.nodeToFeature[node].getId() == id;
+        }
+        return this.contains(point, id, tolerance, nL) || this.contains(point, id, tolerance, node * 2 + 2);
+    }
+
+    @Override
+    public void visitBounds(final BoundsVisitor visitor) {
+        for (int node = 0; node < this.tree.length; node++) {
+            if (this.tree[node] != null) {
+                final int nL = node * 2 + 1;
+                visitor.visit(this.tree[node], FLMth.log2(node + 1), nL >= this.tree.length || this.tree[nL] == null);
+            }
+        }
+    }
 
     public static <T extends Feature> FeatureCollisionTree build(final FeatureType type, final T[] features, final Function<T, AABB> mapper) {
         return build(type, features, mapper, 0, features.length - 1);
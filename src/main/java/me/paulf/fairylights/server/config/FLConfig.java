@@ -10,6 +10,8 @@ public final class FLConfig {
 
         private final ForgeConfigSpec.ConfigValue<Integer> jingleAmplitude;
 
+        private final ForgeConfigSpec.ConfigValue<Boolean> serverLightEffects;
+
         private General(final ForgeConfigSpec.Builder builder) {
             builder.push("general");
             // TODO: lang
@@ -19,6 +21,9 @@ public final class FLConfig {
             this.jingleAmplitude = builder.comment("The distance that jingles can be heard in blocks.")
                 .translation("config.fairylights.jingle_amplitude")
                 .defineInRange("jingles_amplitude", 40, 1, Integer.MAX_VALUE);
+            this.serverLightEffects = builder.comment("If true the server also ticks the purely visual state of lights, such as twinkling and swaying, which only clients display.")
+                .translation("config.fairylights.server_light_effects")
+                .define("server_light_effects", false);
             builder.pop();
         }
     }
@@ -40,4 +45,8 @@ public final class FLConfig {
     public static int getJingleAmplitude() {
         return GENERAL.jingleAmplitude.get();
     }
+
+    public static boolean isServerLightEffectsEnabled() {
+        return GENERAL.serverLightEffects.get();
+    }
 }
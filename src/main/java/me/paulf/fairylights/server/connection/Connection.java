@@ -72,8 +72,12 @@ public abstract class Connection implements NBTSerializable {
 
     protected float slack = 1;
 
+    @Nullable
     private Collidable collision = Collidable.empty();
 
+    @Nullable
+    private Vec3 collisionOrigin;
+
     private boolean updateCatenary;
 
     private int prevStretchStage;
@@ -82,6 +86,10 @@ public abstract class Connection implements NBTSerializable {
 
     private boolean drop;
 
+    private int resumes;
+
+    private boolean suspended;
+
     public Connection(final ConnectionType<?> type, final Level world, final Fastener<?> fastener, final UUID uuid) {
         this.type = type;
         this.world = world;
@@ -113,6 +121,13 @@ public abstract class Connection implements NBTSerializable {
     }
 
     public final Collidable getCollision() {
+        if (this.collision == null) {
+            final CollidableList.Builder bob = new CollidableList.Builder();
+            if (this.collisionOrigin != null) {
+                this.addCollision(bob, this.collisionOrigin);
+            }
+            this.collision = bob.build();
+        }
         return this.collision;
     }
 
@@ -272,6 +287,35 @@ public abstract class Connection implements NBTSerializable {
 
     protected void onUpdate() {}
 
+    /**
+     * Whether the client has suspended ticking the features of this connection while it is out of view.
+     */
+    public final boolean isSuspended() {
+        return this.suspended;
+    }
+
+    public final void setSuspended(final boolean suspended) {
+        final boolean resumed = this.suspended && !suspended;
+        this.suspended = suspended;
+        if (resumed) {
+            this.resumes++;
+            this.onResume();
+        }
+    }
+
+    /**
+     * The number of times features have resumed ticking, each of which jumps them to where they
+     * would be without passing through anything in between, so what was drawn of them at rest is stale.
+     */
+    public final int getResumes() {
+        return this.resumes;
+    }
+
+    /**
+     * Called as features resume ticking, to jump them to where they would be had they kept ticking.
+     */
+    protected void onResume() {}
+
     protected void onCalculateCatenary(final boolean relocated) {}
 
     public final boolean update(final Vec3 from) {
@@ -314,9 +358,9 @@ public abstract class Connection implements NBTSerializable {
                     this.catenary = Catenary.from(vec, facing.getAxis() == Direction.Axis.Y ? 0.0F : (float) Math.toRadians(90.0F + facing.toYRot()), SLACK_CURVE, this.slack);
                 }
                 this.onCalculateCatenary(!this.destination.equals(this.prevDestination));
-                final CollidableList.Builder bob = new CollidableList.Builder();
-                this.addCollision(bob, from);
-                this.collision = bob.build();
+                // Built on demand, most catenary updates are never hit tested
+                this.collision = null;
+                this.collisionOrigin = from;
             }
             this.updateCatenary = false;
             this.prevDestination = this.destination;
@@ -372,9 +416,9 @@ public abstract class Connection implements NBTSerializable {
             final float y1 = it.getY(1.0F);
             final float z1 = it.getZ(1.0F);
             bounds[index++] = new AABB(
-                origin.x + x0, origin.y + y0, origin.z + z0,
-                origin.x + x1, origin.y + y1, origin.z + z1
-            ).inflate(r);
+                origin.x + Math.min(x0, x1) - r, origin.y + Math.min(y0, y1) - r, origin.z + Math.min(z0, z1) - r,
+                origin.x + Math.max(x0, x1) + r, origin.y + Math.max(y0, y1) + r, origin.z + Math.max(z0, z1) + r
+            );
         }
         collision.add(FeatureCollisionTree.build(CORD_FEATURE, i -> Segment.INSTANCE, i -> bounds[i], 1, bounds.length - 2));
     }
@@ -5,12 +5,8 @@ import me.paulf.fairylights.server.collision.FeatureCollisionTree;
 import me.paulf.fairylights.server.fastener.Fastener;
 import me.paulf.fairylights.server.feature.FeatureType;
 import me.paulf.fairylights.server.feature.HangingFeature;
-import me.paulf.fairylights.util.AABBBuilder;
-import me.paulf.fairylights.util.Catenary;
 import me.paulf.fairylights.util.Curve;
-import me.paulf.fairylights.util.matrix.MatrixStack;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 import java.util.ArrayList;
@@ -52,7 +48,7 @@ public abstract class HangingFeatureConnection<F extends HangingFeature> extends
             final F feature;
             if (!relocated && prev != null && index < prev.length && this.canReuse(prev[index], index)) {
                 feature = prev[index];
-                feature.set(new Vec3(x, y, z), yaw, pitch);
+                feature.set(x, y, z, yaw, pitch);
             } else {
                 feature = this.createFeature(index, new Vec3(x, y, z), yaw, pitch);
             }
@@ -79,40 +75,18 @@ public abstract class HangingFeatureConnection<F extends HangingFeature> extends
 
     protected void onAfterUpdateFeatures() {}
 
+    @Override
+    protected void onResume() {
+        for (final F feature : this.features) {
+            feature.settle();
+        }
+    }
+
     @Override
     public void addCollision(final CollidableList.Builder collision, final Vec3 origin) {
         super.addCollision(collision, origin);
         if (this.features.length > 0) {
-            final MatrixStack matrix = new MatrixStack();
-            collision.add(FeatureCollisionTree.build(FEATURE, this.features, f -> {
-                final Vec3 pos = f.getPoint();
-                final double x = origin.x + pos.x;
-                final double y = origin.y + pos.y;
-                final double z = origin.z + pos.z;
-                matrix.push();
-                if (f.parallelsCord()) {
-                    matrix.rotate(-f.getYaw(), 0.0F, 1.0F, 0.0F);
-                    matrix.rotate(f.getPitch(), 0.0F, 0.0F, 1.0F);
-                }
-                matrix.translate(0.0F, -f.getDescent(), 0.0F);
-                final AABBBuilder bounds = new AABBBuilder();
-                final AABB bb = f.getBounds().inflate(0.01D);
-                final Vec3[] verts = {
-                    new Vec3(bb.minX, bb.minY, bb.minZ),
-                    new Vec3(bb.maxX, bb.minY, bb.minZ),
-                    new Vec3(bb.maxX, bb.minY, bb.minZ),
-                    new Vec3(bb.minX, bb.minY, bb.maxZ),
-                    new Vec3(bb.minX, bb.maxY, bb.minZ),
-                    new Vec3(bb.maxX, bb.maxY, bb.minZ),
-                    new Vec3(bb.maxX, bb.maxY, bb.maxZ),
-                    new Vec3(bb.minX, bb.maxY, bb.maxZ)
-                };
-                for (final Vec3 vert : verts) {
-                    bounds.include(matrix.transform(vert));
-                }
-                matrix.pop();
-                return bounds.add(x, y, z).build();
-            }));
+            collision.add(FeatureCollisionTree.build(FEATURE, this.features, f -> f.getCollisionBounds(origin, 0.01D)));
         }
     }
 }
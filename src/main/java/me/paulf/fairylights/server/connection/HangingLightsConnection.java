@@ -1,10 +1,13 @@
 package me.paulf.fairylights.server.connection;
 
 import me.paulf.fairylights.server.block.FLBlocks;
+import me.paulf.fairylights.server.config.FLConfig;
 import me.paulf.fairylights.server.fastener.Fastener;
 import me.paulf.fairylights.server.feature.FeatureType;
 import me.paulf.fairylights.server.feature.light.Light;
 import me.paulf.fairylights.server.feature.light.LightBehavior;
+import me.paulf.fairylights.server.feature.light.LightClock;
+import me.paulf.fairylights.server.feature.light.LightStates;
 import me.paulf.fairylights.server.item.HangingLightsConnectionItem;
 import me.paulf.fairylights.server.item.LightVariant;
 import me.paulf.fairylights.server.item.SimpleLightVariant;
@@ -50,12 +53,16 @@ public final class HangingLightsConnection extends HangingFeatureConnection<Ligh
 
     private List<ItemStack> pattern;
 
+    private final LightStates states = new LightStates(0, LightClock.seed(this.getUUID()), LightClock.of(this.world));
+
     private JinglePlayer jinglePlayer = new JinglePlayer();
 
     private boolean wasPlaying = false;
 
     private boolean isOn = true;
 
+    private boolean hasServerState;
+
     private final Set<BlockPos> litBlocks = new HashSet<>();
 
     private final Set<BlockPos> oldLitBlocks = new HashSet<>();
@@ -125,8 +132,16 @@ public final class HangingLightsConnection extends HangingFeatureConnection<Ligh
         }
         this.wasPlaying = playing;
         final boolean on = !this.isDynamic() && this.isOn;
-        for (final Light<?> light : this.features) {
-            light.tick(this.world, this.fastener.getConnectionPoint());
+        if (this.world.isClientSide() || this.hasServerState || FLConfig.isServerLightEffectsEnabled()) {
+            // the jingle player still plays out of view, which relies on the tick of the states advancing
+            this.states.tick();
+            if (!this.isSuspended()) {
+                this.states.tickBehaviors(this.world.random);
+                final Vec3 origin = this.fastener.getConnectionPoint();
+                for (final Light<?> light : this.features) {
+                    light.tick(this.world, origin);
+                }
+            }
         }
         if (on && this.features.length > 0) {
             this.lightUpdateTime++;
@@ -176,7 +191,7 @@ public final class HangingLightsConnection extends HangingFeatureConnection<Ligh
     }
 
     private <T extends LightBehavior> Light<T> createLight(final int index, final Vec3 point, final float yaw, final float pitch, final ItemStack stack, final LightVariant<T> variant) {
-        return new Light<>(index, point, yaw, pitch, stack, variant, 0.125F);
+        return new Light<>(this.states, index, point, yaw, pitch, stack, variant, 0.125F);
     }
 
     @Override
@@ -203,9 +218,13 @@ public final class HangingLightsConnection extends HangingFeatureConnection<Ligh
 
     @Override
     protected void onAfterUpdateFeatures() {
+        this.states.setSize(this.features.length);
+        this.states.compact(this.features);
         final boolean on = !this.isDynamic() && this.isOn;
+        this.hasServerState = false;
         for (final Light<?> light : this.features) {
             light.power(on, this.isDynamic() || this.prevCatenary == null);
+            this.hasServerState |= light.hasServerState();
         }
         this.oldLitBlocks.removeAll(this.litBlocks);
         final Iterator<BlockPos> oldIter = this.oldLitBlocks.iterator();
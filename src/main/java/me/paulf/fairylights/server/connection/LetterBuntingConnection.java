@@ -73,8 +73,17 @@ public final class LetterBuntingConnection extends Connection implements Lettere
 
     @Override
     protected void onUpdate() {
+        if (!this.isSuspended()) {
+            for (final Letter letter : this.letters) {
+                letter.tick(this.world);
+            }
+        }
+    }
+
+    @Override
+    protected void onResume() {
         for (final Letter letter : this.letters) {
-            letter.tick(this.world);
+            letter.settle();
         }
     }
 
@@ -71,8 +71,10 @@ public final class PennantBuntingConnection extends HangingFeatureConnection<Pen
     @Override
     protected void onUpdate() {
         super.onUpdate();
-        for (final Pennant light : this.features) {
-            light.tick(this.world);
+        if (!this.isSuspended()) {
+            for (final Pennant light : this.features) {
+                light.tick(this.world);
+            }
         }
     }
 
@@ -113,6 +113,9 @@ public abstract class AbstractFastener<F extends FastenerAccessor> implements Fa
         }
         if (dirty) {
             this.calculateBoundingBox();
+            if (this.world != null) {
+                FastenerIndex.get(this.world).invalidate();
+            }
         }
         return dirty;
     }
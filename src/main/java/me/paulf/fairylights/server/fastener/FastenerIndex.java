@@ -0,0 +1,106 @@
+package me.paulf.fairylights.server.fastener;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceSet;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Loaded fasteners of a level bucketed by the chunk they are in, maintained as
+ * fastener block entities load and unload and fence fasteners join and leave.
+ * The epoch advances whenever a fastener is added, removed or has its
+ * connections change so that derived data can be cheaply revalidated.
+ */
+public final class FastenerIndex {
+    private static final Map<Level, FastenerIndex> INDICES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Long2ObjectMap<ReferenceSet<Fastener<?>>> chunks = new Long2ObjectOpenHashMap<>();
+
+    private final Reference2LongMap<Fastener<?>> keys = new Reference2LongOpenHashMap<>();
+
+    private volatile int epoch;
+
+    private FastenerIndex() {}
+
+    public static FastenerIndex get(final Level world) {
+        return INDICES.computeIfAbsent(world, w -> new FastenerIndex());
+    }
+
+    public static void unload(final Level world) {
+        INDICES.remove(world);
+    }
+
+    public synchronized void add(final Fastener<?> fastener) {
+        final long key = ChunkPos.asLong(fastener.getPos());
+        if (this.keys.containsKey(fastener)) {
+            if (this.keys.getLong(fastener) == key) {
+                return;
+            }
+            this.remove(fastener);
+        }
+        this.keys.put(fastener, key);
+        ReferenceSet<Fastener<?>> chunk = this.chunks.get(key);
+        if (chunk == null) {
+            this.chunks.put(key, chunk = new ReferenceLinkedOpenHashSet<>());
+        }
+        chunk.add(fastener);
+        this.invalidate();
+    }
+
+    public synchronized void remove(final Fastener<?> fastener) {
+        if (this.keys.containsKey(fastener)) {
+            final long key = this.keys.removeLong(fastener);
+            final ReferenceSet<Fastener<?>> chunk = this.chunks.get(key);
+            if (chunk != null && chunk.remove(fastener) && chunk.isEmpty()) {
+                this.chunks.remove(key);
+            }
+            this.invalidate();
+        }
+    }
+
+    public synchronized void invalidate() {
+        this.epoch++;
+    }
+
+    public int getEpoch() {
+        return this.epoch;
+    }
+
+    public synchronized int size() {
+        return this.keys.size();
+    }
+
+    public synchronized void forEach(final Consumer<Fastener<?>> consumer) {
+        this.keys.keySet().forEach(consumer);
+    }
+
+    public synchronized void forEach(final AABB region, final Consumer<Fastener<?>> consumer) {
+        if (this.chunks.isEmpty()) {
+            return;
+        }
+        final int minX = SectionPos.blockToSectionCoord(Mth.floor(region.minX));
+        final int maxX = SectionPos.blockToSectionCoord(Mth.floor(region.maxX));
+        final int minZ = SectionPos.blockToSectionCoord(Mth.floor(region.minZ));
+        final int maxZ = SectionPos.blockToSectionCoord(Mth.floor(region.maxZ));
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                final ReferenceSet<Fastener<?>> chunk = this.chunks.get(ChunkPos.asLong(x, z));
+                if (chunk != null) {
+                    chunk.forEach(consumer);
+                }
+            }
+        }
+    }
+}
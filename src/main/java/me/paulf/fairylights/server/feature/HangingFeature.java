@@ -2,19 +2,20 @@ package me.paulf.fairylights.server.feature;
 
 import me.paulf.fairylights.server.fastener.Fastener;
 import me.paulf.fairylights.util.FLMth;
-import me.paulf.fairylights.util.matrix.MatrixStack;
+import net.minecraft.util.Mth;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
+import org.joml.Vector3d;
 
 public abstract class HangingFeature implements Feature {
     protected final int index;
 
-    protected Vec3 point;
+    protected double pointX, pointY, pointZ;
 
-    protected Vec3 prevPoint;
+    protected double prevPointX, prevPointY, prevPointZ;
 
-    private Vec3 targetPoint;
+    private double targetPointX, targetPointY, targetPointZ;
 
     protected float yaw, pitch, roll;
 
@@ -26,7 +27,9 @@ public abstract class HangingFeature implements Feature {
 
     public HangingFeature(final int index, final Vec3 point, final float yaw, final float pitch, final float roll, final float descent) {
         this.index = index;
-        this.point = this.prevPoint = this.targetPoint = point;
+        this.prevPointX = this.pointX = this.targetPointX = point.x;
+        this.prevPointY = this.pointY = this.targetPointY = point.y;
+        this.prevPointZ = this.pointZ = this.targetPointZ = point.z;
         this.prevYaw = this.yaw = this.targetYaw = yaw;
         this.prevPitch = this.pitch = this.targetPitch = pitch;
         this.prevRoll = this.roll = roll;
@@ -34,7 +37,13 @@ public abstract class HangingFeature implements Feature {
     }
 
     public void set(final Vec3 point, final float yaw, final float pitch) {
-        this.targetPoint = point;
+        this.set(point.x, point.y, point.z, yaw, pitch);
+    }
+
+    public void set(final double x, final double y, final double z, final float yaw, final float pitch) {
+        this.targetPointX = x;
+        this.targetPointY = y;
+        this.targetPointZ = z;
         this.targetYaw = yaw;
         this.targetPitch = pitch;
     }
@@ -45,11 +54,42 @@ public abstract class HangingFeature implements Feature {
     }
 
     public final Vec3 getPoint() {
-        return this.targetPoint;
+        return new Vec3(this.targetPointX, this.targetPointY, this.targetPointZ);
+    }
+
+    public final double getX() {
+        return this.targetPointX;
+    }
+
+    public final double getY() {
+        return this.targetPointY;
+    }
+
+    public final double getZ() {
+        return this.targetPointZ;
     }
 
     public final Vec3 getPoint(final float delta) {
-        return this.point.subtract(this.prevPoint).scale(delta).add(this.prevPoint);
+        return new Vec3(this.getX(delta), this.getY(delta), this.getZ(delta));
+    }
+
+    /**
+     * Writes the interpolated point into the destination instead of allocating, for use every frame.
+     */
+    public final Vector3d getPoint(final float delta, final Vector3d dest) {
+        return dest.set(this.getX(delta), this.getY(delta), this.getZ(delta));
+    }
+
+    public final double getX(final float delta) {
+        return this.prevPointX + (this.pointX - this.prevPointX) * delta;
+    }
+
+    public final double getY(final float delta) {
+        return this.prevPointY + (this.pointY - this.prevPointY) * delta;
+    }
+
+    public final double getZ(final float delta) {
+        return this.prevPointZ + (this.pointZ - this.prevPointZ) * delta;
     }
 
     public final float getYaw() {
@@ -76,6 +116,10 @@ public abstract class HangingFeature implements Feature {
         return FLMth.lerpAngle(this.prevRoll, this.roll, t);
     }
 
+    public final boolean isResting() {
+        return this.pointX == this.prevPointX && this.pointY == this.prevPointY && this.pointZ == this.prevPointZ && this.yaw == this.prevYaw && this.pitch == this.prevPitch && this.roll == this.prevRoll;
+    }
+
     public float getDescent() {
         return this.descent;
     }
@@ -85,30 +129,99 @@ public abstract class HangingFeature implements Feature {
     }
 
     public final Vec3 getAbsolutePoint(final Vec3 origin) {
-        return this.point.add(origin);
+        return new Vec3(origin.x + this.targetPointX, origin.y + this.targetPointY, origin.z + this.targetPointZ);
     }
 
+    /**
+     * Transforms a point local to this feature into the world, rotating by roll about x, then pitch
+     * about z if it parallels the cord, then -yaw about y, without building a matrix.
+     */
     public Vec3 getTransformedPoint(final Vec3 origin, final Vec3 point) {
-        final MatrixStack matrix = new MatrixStack();
-        matrix.rotate(-this.getYaw(), 0.0F, 1.0F, 0.0F);
+        final double qx = point.x;
+        final double qy = point.y - this.getDescent();
+        final double qz = point.z;
+        final float cosRoll = Mth.cos(this.getRoll());
+        final float sinRoll = Mth.sin(this.getRoll());
+        double x = qx;
+        double y = cosRoll * qy - sinRoll * qz;
+        final double z = sinRoll * qy + cosRoll * qz;
         if (this.parallelsCord()) {
-            matrix.rotate(this.getPitch(), 0.0F, 0.0F, 1.0F);
+            final float cosPitch = Mth.cos(this.getPitch());
+            final float sinPitch = Mth.sin(this.getPitch());
+            final double px = x;
+            x = cosPitch * px - sinPitch * y;
+            y = sinPitch * px + cosPitch * y;
+        }
+        final float cosYaw = Mth.cos(this.getYaw());
+        final float sinYaw = -Mth.sin(this.getYaw());
+        return new Vec3(
+            origin.x + this.pointX + cosYaw * x + sinYaw * z,
+            origin.y + this.pointY + y,
+            origin.z + this.pointZ - sinYaw * x + cosYaw * z
+        );
+    }
+
+    /**
+     * Computes the world bounds of this feature's local bounds oriented along the cord, equivalent to
+     * transforming all eight corners but without building a matrix or any intermediate vectors.
+     */
+    public AABB getCollisionBounds(final Vec3 origin, final double inflate) {
+        final AABB bb = this.getBounds();
+        final double ex = (bb.maxX - bb.minX) * 0.5D + inflate;
+        final double ey = (bb.maxY - bb.minY) * 0.5D + inflate;
+        final double ez = (bb.maxZ - bb.minZ) * 0.5D + inflate;
+        final double cx = (bb.minX + bb.maxX) * 0.5D;
+        final double cy = (bb.minY + bb.maxY) * 0.5D - this.getDescent();
+        final double cz = (bb.minZ + bb.maxZ) * 0.5D;
+        final double x = origin.x + this.targetPointX;
+        final double y = origin.y + this.targetPointY;
+        final double z = origin.z + this.targetPointZ;
+        if (!this.parallelsCord()) {
+            return new AABB(x + cx - ex, y + cy - ey, z + cz - ez, x + cx + ex, y + cy + ey, z + cz + ez);
         }
-        matrix.rotate(this.getRoll(), 1.0F, 0.0F, 0.0F);
-        matrix.translate(0.0F, -this.getDescent(), 0.0F);
-        return this.point.add(matrix.transform(point)).add(origin);
+        // rotation of -yaw about y followed by pitch about z
+        final float cosYaw = Mth.cos(this.targetYaw);
+        final float sinYaw = -Mth.sin(this.targetYaw);
+        final float cosPitch = Mth.cos(this.targetPitch);
+        final float sinPitch = Mth.sin(this.targetPitch);
+        final double m00 = cosYaw * cosPitch, m01 = -cosYaw * sinPitch, m02 = sinYaw;
+        final double m10 = sinPitch, m11 = cosPitch, m12 = 0.0D;
+        final double m20 = -sinYaw * cosPitch, m21 = sinYaw * sinPitch, m22 = cosYaw;
+        final double px = x + m00 * cx + m01 * cy + m02 * cz;
+        final double py = y + m10 * cx + m11 * cy + m12 * cz;
+        final double pz = z + m20 * cx + m21 * cy + m22 * cz;
+        final double rx = Math.abs(m00) * ex + Math.abs(m01) * ey + Math.abs(m02) * ez;
+        final double ry = Math.abs(m10) * ex + Math.abs(m11) * ey + Math.abs(m12) * ez;
+        final double rz = Math.abs(m20) * ex + Math.abs(m21) * ey + Math.abs(m22) * ez;
+        return new AABB(px - rx, py - ry, pz - rz, px + rx, py + ry, pz + rz);
     }
 
     public void tick(final Level world) {
-        this.prevPoint = this.point;
+        this.prevPointX = this.pointX;
+        this.prevPointY = this.pointY;
+        this.prevPointZ = this.pointZ;
         this.prevYaw = this.yaw;
         this.prevPitch = this.pitch;
         this.prevRoll = this.roll;
-        this.point = this.targetPoint;
+        this.pointX = this.targetPointX;
+        this.pointY = this.targetPointY;
+        this.pointZ = this.targetPointZ;
         this.yaw = this.targetYaw;
         this.pitch = this.targetPitch;
     }
 
+    /**
+     * Jumps to the target point and orientation, leaving nothing to interpolate.
+     */
+    public void settle() {
+        this.prevPointX = this.pointX = this.targetPointX;
+        this.prevPointY = this.pointY = this.targetPointY;
+        this.prevPointZ = this.pointZ = this.targetPointZ;
+        this.prevYaw = this.yaw = this.targetYaw;
+        this.prevPitch = this.pitch = this.targetPitch;
+        this.prevRoll = this.roll;
+    }
+
     public abstract AABB getBounds();
 
     public abstract boolean parallelsCord();
@@ -12,15 +12,21 @@ public final class Letter extends HangingFeature {
 
     private Style style;
 
+    private AABB bounds;
+
     public Letter(final int index, final Vec3 point, final float yaw, final float pitch, final SymbolSet symbols, final char letter, final Style style) {
         super(index, point, yaw, pitch, 0.0F, 0.0F);
         this.symbols = symbols;
         this.letter = letter;
         this.style = style;
+        this.bounds = this.computeBounds();
     }
 
     public void set(final char letter, final Style style) {
-        this.letter = letter;
+        if (this.letter != letter) {
+            this.letter = letter;
+            this.bounds = this.computeBounds();
+        }
         this.style = style;
     }
 
@@ -34,6 +40,10 @@ public final class Letter extends HangingFeature {
 
     @Override
     public AABB getBounds() {
+        return this.bounds;
+    }
+
+    private AABB computeBounds() {
         final float w = this.symbols.getWidth(this.letter);
         final float h = this.symbols.getHeight();
         return new AABB(-w / 2.0D, -h, -w / 2.0D, w / 2.0D, 0.0D, w / 2.0D);
@@ -5,6 +5,8 @@ import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 public class Pennant extends HangingFeature {
+    private static final AABB BOUNDS = new AABB(-0.22D, -0.5D, -0.02D, 0.22D, 0.0D, 0.02D);
+
     private final int color;
 
     private final Item item;
@@ -25,7 +27,7 @@ public class Pennant extends HangingFeature {
 
     @Override
     public AABB getBounds() {
-        return new AABB(-0.22D, -0.5D, -0.02D, 0.22D, 0.0D, 0.02D);
+        return BOUNDS;
     }
 
     @Override
@@ -0,0 +1,99 @@
+package me.paulf.fairylights.server.feature.light;
+
+import com.google.common.collect.MapMaker;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import me.paulf.fairylights.util.FLMth;
+import net.minecraft.Util;
+import net.minecraft.util.Mth;
+
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A sequence of colours faded through over time, shared by every light and
+ * item with the same colours. The current colour is evaluated at most once
+ * per frame, at the time captured by {@link #startFrame()}.
+ */
+public final class ColorCycle {
+    private static final ConcurrentMap<IntArrayList, ColorCycle> CYCLES = new MapMaker().weakValues().makeMap();
+
+    private static volatile long time = Util.getMillis();
+
+    private final float[] red;
+
+    private final float[] green;
+
+    private final float[] blue;
+
+    private final float rate;
+
+    private volatile Sample sample = new Sample(Long.MIN_VALUE, 0.0F, 0.0F, 0.0F);
+
+    private ColorCycle(final int[] colors) {
+        this.red = new float[colors.length];
+        this.green = new float[colors.length];
+        this.blue = new float[colors.length];
+        for (int i = 0; i < colors.length; i++) {
+            this.red[i] = (colors[i] >> 16 & 0xFF) / 255.0F;
+            this.green[i] = (colors[i] >> 8 & 0xFF) / 255.0F;
+            this.blue[i] = (colors[i] & 0xFF) / 255.0F;
+        }
+        this.rate = colors.length / 960.0F;
+    }
+
+    public static ColorCycle of(final int[] colors) {
+        return CYCLES.computeIfAbsent(IntArrayList.wrap(colors), c -> new ColorCycle(c.elements()));
+    }
+
+    public static void startFrame() {
+        time = Util.getMillis();
+    }
+
+    public float getFirstRed() {
+        return this.red[0];
+    }
+
+    public float getFirstGreen() {
+        return this.green[0];
+    }
+
+    public float getFirstBlue() {
+        return this.blue[0];
+    }
+
+    public float getRed() {
+        return this.sample().red;
+    }
+
+    public float getGreen() {
+        return this.sample().green;
+    }
+
+    public float getBlue() {
+        return this.sample().blue;
+    }
+
+    public int getColor() {
+        final Sample s = this.sample();
+        return (int) (s.red * 255.0F) << 16 | (int) (s.green * 255.0F) << 8 | (int) (s.blue * 255.0F);
+    }
+
+    private Sample sample() {
+        final long now = time;
+        Sample s = this.sample;
+        if (s.time != now) {
+            final float p = FLMth.mod(now * (20.0F / 1000.0F) * this.rate, this.red.length);
+            final int i = (int) p;
+            final int j = (i + 1) % this.red.length;
+            final float t = p - i;
+            this.sample = s = new Sample(
+                now,
+                Mth.lerp(t, this.red[i % this.red.length], this.red[j]),
+                Mth.lerp(t, this.green[i % this.green.length], this.green[j]),
+                Mth.lerp(t, this.blue[i % this.blue.length], this.blue[j])
+            );
+        }
+        return s;
+    }
+
+    private record Sample(long time, float red, float green, float blue) {}
+}
@@ -39,6 +39,23 @@ public class CompositeBehavior implements StandardLightBehavior {
         this.color.power(powered, now, light);
     }
 
+    @Override
+    public void setSeed(final long seed) {
+        this.brightness.setSeed(seed);
+        this.color.setSeed(seed);
+    }
+
+    @Override
+    public void bind(final LightStates states) {
+        this.brightness.bind(states);
+        this.color.bind(states);
+    }
+
+    @Override
+    public boolean hasServerState() {
+        return this.brightness.hasServerState() || this.color.hasServerState();
+    }
+
     @Override
     public void tick(final Level world, final Vec3 origin, final Light<?> light) {
         this.brightness.tick(world, origin, light);
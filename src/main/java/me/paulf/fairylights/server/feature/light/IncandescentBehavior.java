@@ -5,42 +5,72 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 
 public class IncandescentBehavior implements BrightnessLightBehavior {
-    private float prevBrightness = 1.0F;
+    private long seed;
 
-    private float brightness = 1.0F;
+    // the strand whose cell holds the brightness, bound by the light this behaves for
+    private LightStates states;
 
-    private boolean powered = true;
+    private int cell;
 
     @Override
     public float getBrightness(final float delta) {
-        return Mth.lerp(delta, this.prevBrightness, this.brightness);
+        final LightClock clock = this.states.getClock();
+        if (clock.isDeterministic()) {
+            final double time = clock.getTime();
+            final long tick = Mth.lfloor(time);
+            return Mth.lerp((float) (time - tick), this.getBrightness(tick), this.getBrightness(tick + 1));
+        }
+        return this.states.getValue(this.cell, delta);
+    }
+
+    private float getBrightness(final long tick) {
+        final float brightness = this.fade(tick);
+        if (brightness > 0.85F) {
+            return brightness - this.flicker(tick) - 0.8F * this.flicker(tick - 1);
+        }
+        return brightness;
+    }
+
+    private float fade(final double time) {
+        final boolean powered = this.states.isPowered(this.cell);
+        final float target = powered ? 1.0F : 0.0F;
+        final double ticks = time - this.states.getFadeStart(this.cell);
+        final float from = this.states.getFadeFrom(this.cell);
+        if (ticks <= 0.0D) {
+            return from;
+        }
+        final float offset = (float) ((from - target) * Math.pow(powered ? 0.8D : 0.9D, ticks));
+        return Math.abs(offset) < 1e-2F ? target : target + offset;
+    }
+
+    private float flicker(final long tick) {
+        return LightClock.hash(this.seed, tick) < 0.25F ? LightClock.hash(~this.seed, tick) * 0.05F : 0.0F;
     }
 
     @Override
     public void power(final boolean powered, final boolean now, final Light<?> light) {
-        this.powered = powered;
-        if (now) this.prevBrightness = this.brightness = this.powered ? 1.0F : 0.0F;
+        if (now) {
+            final float brightness = powered ? 1.0F : 0.0F;
+            this.states.setValue(this.cell, brightness);
+            this.states.fade(this.cell, brightness, Double.NEGATIVE_INFINITY);
+        } else if (this.states.isPowered(this.cell) != powered) {
+            final double time = this.states.getClock().getTime();
+            this.states.fade(this.cell, this.fade(time), time);
+        }
+        this.states.setPowered(this.cell, powered);
     }
 
     @Override
-    public void tick(final Level world, final Vec3 origin, final Light<?> light) {
-        this.prevBrightness = this.brightness;
-        if (this.powered) {
-            this.brighten(1.0F, 0.2F);
-        } else {
-            this.brighten(0.0F, 0.1F);
-        }
-        if (this.brightness > 0.85F && world.random.nextFloat() < 0.25F) {
-            this.brightness -= world.random.nextFloat() * 0.05F;
-        }
+    public void setSeed(final long seed) {
+        this.seed = seed;
     }
 
-    private void brighten(final float target, final float rate) {
-        if (this.brightness != target) {
-            this.brightness += (target - this.brightness) * rate;
-            if (Math.abs(target - this.brightness) < 1e-2F) {
-                this.brightness = target;
-            }
-        }
+    @Override
+    public void bind(final LightStates states) {
+        this.cell = states.bindIncandescent(this.states, this.cell);
+        this.states = states;
     }
+
+    @Override
+    public void tick(final Level world, final Vec3 origin, final Light<?> light) {}
 }
@@ -14,35 +14,29 @@ import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
 
 public final class Light<T extends LightBehavior> extends HangingFeature {
-    private static final int SWAY_RATE = 10;
-
-    private static final int SWAY_PEAK_COUNT = 5;
-
-    private static final int SWAY_CYCLE = SWAY_RATE * SWAY_PEAK_COUNT;
-
     private final ItemStack item;
 
     private final LightVariant<T> variant;
 
     private final T behavior;
 
-    private int sway;
-
-    private boolean swaying;
-
-    private boolean swayDirection;
-
-    private int tick;
-
-    private int lastJingledTick = -1;
+    private final LightStates states;
 
     private boolean powered;
 
     public Light(final int index, final Vec3 point, final float yaw, final float pitch, final ItemStack item, final LightVariant<T> variant, final float descent) {
+        this(new LightStates(0L, LightClock.NONE), index, point, yaw, pitch, item, variant, descent);
+    }
+
+    public Light(final LightStates states, final int index, final Vec3 point, final float yaw, final float pitch, final ItemStack item, final LightVariant<T> variant, final float descent) {
         super(index, point, yaw, pitch, 0.0F, descent);
+        this.states = states;
+        states.reset(index);
         this.item = item;
         this.variant = variant;
         this.behavior = variant.createBehavior(item);
+        this.behavior.setSeed(LightClock.seed(states.getSeed(), index));
+        this.behavior.bind(states);
     }
 
     public T getBehavior() {
@@ -67,9 +61,9 @@ public final class Light<T extends LightBehavior> extends HangingFeature {
 
     public void jingle(final Level world, final Vec3 origin, final int note, final SoundEvent sound, final ParticleOptions... particles) {
         if (world.isClientSide()) {
-            final double x = origin.x + this.point.x;
-            final double y = origin.y + this.point.y;
-            final double z = origin.z + this.point.z;
+            final double x = origin.x + this.pointX;
+            final double y = origin.y + this.pointY;
+            final double z = origin.z + this.pointZ;
             for (final ParticleOptions particle : particles) {
                 double vx = world.random.nextGaussian();
                 double vy = world.random.nextGaussian();
@@ -79,26 +73,22 @@ public final class Light<T extends LightBehavior> extends HangingFeature {
                 vx *= mag;
                 vy *= mag;
                 vz *= mag;
-                world.addParticle(particle, x + vx, y + vy, z + vz, particle == ParticleTypes.NOTE ? note / 24D : 0, 0, 0);
+                ParticleBudget.add(world, particle, x + vx, y + vy, z + vz, particle == ParticleTypes.NOTE ? note / 24D : 0, 0, 0);
             }
-            if (this.lastJingledTick != this.tick) {
+            if (this.states.jingle(this.index)) {
                 world.playLocalSound(x, y, z, sound, SoundSource.BLOCKS, FLConfig.getJingleAmplitude() / 16F, (float) Math.pow(2, (note - 12) / 12F), false);
                 this.startSwaying(world.random.nextBoolean());
-                this.lastJingledTick = this.tick;
             }
         }
     }
 
     public void startSwaying(final boolean swayDirection) {
-        this.swayDirection = swayDirection;
-        this.swaying = true;
-        this.sway = 0;
+        this.states.startSwaying(this.index, swayDirection);
     }
 
     public void stopSwaying() {
-        this.sway = 0;
+        this.states.stopSwaying(this.index);
         this.roll = 0.0F;
-        this.swaying = false;
     }
 
     public void power(final boolean powered, final boolean now) {
@@ -106,22 +96,28 @@ public final class Light<T extends LightBehavior> extends HangingFeature {
         this.powered = powered;
     }
 
+    public boolean hasServerState() {
+        return this.behavior.hasServerState();
+    }
+
     public boolean isPowered() {
         return this.powered;
     }
 
+    /**
+     * Advances this light after its {@link LightStates} have been ticked.
+     */
     public void tick(final Level world, final Vec3 origin) {
         super.tick(world);
         this.behavior.tick(world, origin, this);
-        if (this.swaying) {
-            if (this.sway >= SWAY_CYCLE) {
-                this.stopSwaying();
-            } else {
-                this.roll = (float) (Math.sin((this.swayDirection ? 1 : -1) * 2 * Math.PI / SWAY_RATE * this.sway) * Math.pow(180 / Math.PI * 2, -this.sway / (float) SWAY_CYCLE));
-                this.sway++;
-            }
-        }
-        this.tick++;
+        this.roll = this.states.getRoll(this.index);
+    }
+
+    @Override
+    public void settle() {
+        this.stopSwaying();
+        super.settle();
+        this.behavior.power(this.powered, true, this);
     }
 
     @Override
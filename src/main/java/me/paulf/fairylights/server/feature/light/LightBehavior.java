@@ -13,4 +13,22 @@ public interface LightBehavior {
     void tick(final Level world, final Vec3 origin, final Light<?> light);
 
     default void animateTick(final Level world, final Vec3 origin, final Light<?> light) {}
+
+    /**
+     * Sets the seed of the light this behaves for, from which deterministic lights derive their phase.
+     */
+    default void setSeed(final long seed) {}
+
+    /**
+     * Binds the state this keeps in the arrays of a strand to the strand, moving it when the strand compacts them.
+     */
+    default void bind(final LightStates states) {}
+
+    /**
+     * Whether ticking this changes state the server relies on, otherwise it is purely visual and
+     * left unticked on the server.
+     */
+    default boolean hasServerState() {
+        return false;
+    }
 }
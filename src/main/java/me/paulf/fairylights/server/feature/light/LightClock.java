@@ -0,0 +1,72 @@
+package me.paulf.fairylights.server.feature.light;
+
+import net.minecraft.world.level.Level;
+
+import javax.annotation.Nullable;
+import java.util.UUID;
+
+/**
+ * The game time of the frame being rendered and hashing of light seeds, for
+ * behaviours to evaluate twinkling and flickering from a hash of their light
+ * and the time when deterministic lights are enabled instead of advancing
+ * random timers every tick. Evaluated this way every client sees a light in
+ * the same phase and lights need no ticking to animate. Only the client clock
+ * is advanced, by the render thread, so lights of other sides never are.
+ */
+public final class LightClock {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    public static final LightClock CLIENT = new LightClock();
+
+    public static final LightClock NONE = new LightClock();
+
+    private boolean deterministic;
+
+    private double time;
+
+    private LightClock() {}
+
+    /**
+     * The clock of lights in the world, the client's for the client world and otherwise one which is never deterministic.
+     */
+    public static LightClock of(@Nullable final Level world) {
+        return world != null && world.isClientSide() ? CLIENT : NONE;
+    }
+
+    public void startFrame(final boolean deterministic, final long gameTime, final float delta) {
+        this.deterministic = deterministic;
+        this.time = gameTime + delta;
+    }
+
+    public boolean isDeterministic() {
+        return this.deterministic;
+    }
+
+    /**
+     * The game time in ticks, including the partial tick, of the current frame.
+     */
+    public double getTime() {
+        return this.time;
+    }
+
+    public static long seed(final UUID uuid) {
+        return mix(uuid.getMostSignificantBits() ^ Long.rotateLeft(uuid.getLeastSignificantBits(), 32));
+    }
+
+    public static long seed(final long seed, final int index) {
+        return mix(seed + (index + 1) * GOLDEN_GAMMA);
+    }
+
+    /**
+     * A uniformly distributed value in [0, 1) for the seed at the tick.
+     */
+    public static float hash(final long seed, final long tick) {
+        return (mix(seed ^ tick * GOLDEN_GAMMA) >>> 40) * 0x1.0p-24F;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,353 @@
+package me.paulf.fairylights.server.feature.light;
+
+import net.minecraft.util.RandomSource;
+
+import java.util.Arrays;
+
+/**
+ * State of a strand of lights held in parallel primitive arrays, so that a
+ * connection advances all of it in a pass over each array rather than through
+ * the objects of every light. Sway and jingles are indexed by light, while the
+ * timers and brightness of twinkling and incandescent behaviours live in cells
+ * which those behaviours are bound to, as a light may have several of them.
+ */
+public final class LightStates {
+    private static final int SWAY_RATE = 10;
+
+    private static final int SWAY_PEAK_COUNT = 5;
+
+    private static final int SWAY_CYCLE = SWAY_RATE * SWAY_PEAK_COUNT;
+
+    private static final float[] SWAY_ROLL = new float[SWAY_CYCLE];
+
+    static {
+        for (int step = 0; step < SWAY_CYCLE; step++) {
+            SWAY_ROLL[step] = (float) (Math.sin(2 * Math.PI / SWAY_RATE * step) * Math.pow(180 / Math.PI * 2, -step / (float) SWAY_CYCLE));
+        }
+    }
+
+    private static final byte TWINKLE = 0;
+
+    private static final byte INCANDESCENT = 1;
+
+    private final long seed;
+
+    private final LightClock clock;
+
+    private int size;
+
+    private int tick;
+
+    // zero while still, otherwise the next sway step plus one, negated when swaying the other way
+    private byte[] sway;
+
+    private float[] roll;
+
+    private int[] lastJingledTick;
+
+    private Cells cells = new Cells(0);
+
+    // the cells being compacted into the new ones, from which bound behaviours move their state
+    private Cells from;
+
+    public LightStates(final long seed, final LightClock clock) {
+        this(1, seed, clock);
+    }
+
+    public LightStates(final int capacity, final long seed, final LightClock clock) {
+        this.seed = seed;
+        this.clock = clock;
+        this.sway = new byte[capacity];
+        this.roll = new float[capacity];
+        this.lastJingledTick = new int[capacity];
+        Arrays.fill(this.lastJingledTick, -1);
+    }
+
+    /**
+     * The seed of the strand, from which each light's behaviour is seeded by its index.
+     */
+    public long getSeed() {
+        return this.seed;
+    }
+
+    /**
+     * The clock of the side this strand is on, from which its behaviours read the time.
+     */
+    public LightClock getClock() {
+        return this.clock;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Clears the state of the light at the index, as when a new light is hung there.
+     */
+    public void reset(final int index) {
+        if (index >= this.sway.length) {
+            this.grow(index + 1);
+        }
+        this.sway[index] = 0;
+        this.roll[index] = 0.0F;
+        this.lastJingledTick[index] = -1;
+        if (index >= this.size) {
+            this.size = index + 1;
+        }
+    }
+
+    public void setSize(final int size) {
+        if (size > this.sway.length) {
+            this.grow(size);
+        }
+        for (int i = this.size; i < size; i++) {
+            this.reset(i);
+        }
+        this.size = size;
+    }
+
+    public float getRoll(final int index) {
+        return index < this.size ? this.roll[index] : 0.0F;
+    }
+
+    public boolean isSwaying(final int index) {
+        return index < this.size && this.sway[index] != 0;
+    }
+
+    public void startSwaying(final int index, final boolean direction) {
+        if (index < this.size) {
+            this.sway[index] = (byte) (direction ? 1 : -1);
+        }
+    }
+
+    public void stopSwaying(final int index) {
+        if (index < this.size) {
+            this.sway[index] = 0;
+            this.roll[index] = 0.0F;
+        }
+    }
+
+    /**
+     * Marks the light at the index as jingled, returning false if it already jingled this tick.
+     */
+    public boolean jingle(final int index) {
+        if (index >= this.size || this.lastJingledTick[index] == this.tick) {
+            return false;
+        }
+        this.lastJingledTick[index] = this.tick;
+        return true;
+    }
+
+    public void tick() {
+        final byte[] sway = this.sway;
+        final float[] roll = this.roll;
+        for (int i = 0; i < this.size; i++) {
+            final int s = sway[i];
+            if (s != 0) {
+                final int step = Math.abs(s) - 1;
+                if (step >= SWAY_CYCLE) {
+                    sway[i] = 0;
+                    roll[i] = 0.0F;
+                } else if (s > 0) {
+                    roll[i] = SWAY_ROLL[step];
+                    sway[i] = (byte) (s + 1);
+                } else {
+                    roll[i] = -SWAY_ROLL[step];
+                    sway[i] = (byte) (s - 1);
+                }
+            }
+        }
+        this.tick++;
+    }
+
+    /**
+     * Advances the timers and brightness of every behaviour cell.
+     */
+    public void tickBehaviors(final RandomSource rng) {
+        if (this.clock.isDeterministic()) {
+            return;
+        }
+        final Cells c = this.cells;
+        for (int i = 0; i < c.count; i++) {
+            final float value = c.value[i];
+            c.prevValue[i] = value;
+            if (c.kind[i] == TWINKLE) {
+                float time = value;
+                if (time != -1.0F || rng.nextFloat() < c.chance[i]) time++;
+                if (time >= c.duration[i] || !c.powered[i]) time = -1.0F;
+                c.value[i] = time;
+            } else {
+                final float target = c.powered[i] ? 1.0F : 0.0F;
+                float brightness = value;
+                if (brightness != target) {
+                    brightness += (target - brightness) * (c.powered[i] ? 0.2F : 0.1F);
+                    if (Math.abs(target - brightness) < 1e-2F) {
+                        brightness = target;
+                    }
+                }
+                if (brightness > 0.85F && rng.nextFloat() < 0.25F) {
+                    brightness -= rng.nextFloat() * 0.05F;
+                }
+                c.value[i] = brightness;
+            }
+        }
+    }
+
+    /**
+     * Drops the cells of behaviours no longer hung on the strand by rebinding
+     * those of the lights which are, moving their state into fresh cells.
+     */
+    public void compact(final Light<?>[] lights) {
+        this.from = this.cells;
+        this.cells = new Cells(this.from.count);
+        for (final Light<?> light : lights) {
+            light.getBehavior().bind(this);
+        }
+        this.from = null;
+    }
+
+    /**
+     * Binds a behaviour to a cell, returning a new cell for a behaviour not yet
+     * bound to these states or the one its state moved to while compacting.
+     */
+    int bindTwinkle(final LightStates bound, final int cell, final float chance, final int duration) {
+        if (bound == this) {
+            return this.move(cell);
+        }
+        final int i = this.cells.add(TWINKLE);
+        this.cells.value[i] = this.cells.prevValue[i] = -1.0F;
+        this.cells.chance[i] = chance;
+        this.cells.duration[i] = duration;
+        return i;
+    }
+
+    int bindIncandescent(final LightStates bound, final int cell) {
+        if (bound == this) {
+            return this.move(cell);
+        }
+        final int i = this.cells.add(INCANDESCENT);
+        this.cells.value[i] = this.cells.prevValue[i] = this.cells.fadeFrom[i] = 1.0F;
+        return i;
+    }
+
+    private int move(final int cell) {
+        if (this.from == null) {
+            return cell;
+        }
+        final int i = this.cells.add(this.from.kind[cell]);
+        this.from.copy(cell, this.cells, i);
+        return i;
+    }
+
+    boolean isPowered(final int cell) {
+        return this.cells.powered[cell];
+    }
+
+    void setPowered(final int cell, final boolean powered) {
+        this.cells.powered[cell] = powered;
+    }
+
+    float getValue(final int cell, final float delta) {
+        final Cells c = this.cells;
+        return c.prevValue[cell] + (c.value[cell] - c.prevValue[cell]) * delta;
+    }
+
+    float getValue(final int cell) {
+        return this.cells.value[cell];
+    }
+
+    float getPrevValue(final int cell) {
+        return this.cells.prevValue[cell];
+    }
+
+    void setValue(final int cell, final float value) {
+        this.cells.value[cell] = this.cells.prevValue[cell] = value;
+    }
+
+    float getFadeFrom(final int cell) {
+        return this.cells.fadeFrom[cell];
+    }
+
+    double getFadeStart(final int cell) {
+        return this.cells.fadeStart[cell];
+    }
+
+    void fade(final int cell, final float from, final double start) {
+        this.cells.fadeFrom[cell] = from;
+        this.cells.fadeStart[cell] = start;
+    }
+
+    private void grow(final int capacity) {
+        final int length = Math.max(capacity, this.sway.length * 2);
+        final int old = this.lastJingledTick.length;
+        this.sway = Arrays.copyOf(this.sway, length);
+        this.roll = Arrays.copyOf(this.roll, length);
+        this.lastJingledTick = Arrays.copyOf(this.lastJingledTick, length);
+        Arrays.fill(this.lastJingledTick, old, length, -1);
+    }
+
+    private static final class Cells {
+        int count;
+
+        byte[] kind;
+
+        boolean[] powered;
+
+        // the twinkle time, -1 while not twinkling, or the incandescent brightness
+        float[] value;
+
+        float[] prevValue;
+
+        float[] chance;
+
+        int[] duration;
+
+        // the deterministic incandescent brightness when the power last changed and the time it did
+        float[] fadeFrom;
+
+        double[] fadeStart;
+
+        Cells(final int capacity) {
+            this.kind = new byte[capacity];
+            this.powered = new boolean[capacity];
+            this.value = new float[capacity];
+            this.prevValue = new float[capacity];
+            this.chance = new float[capacity];
+            this.duration = new int[capacity];
+            this.fadeFrom = new float[capacity];
+            this.fadeStart = new double[capacity];
+        }
+
+        int add(final byte kind) {
+            if (this.count == this.kind.length) {
+                final int length = Math.max(4, this.count * 2);
+                this.kind = Arrays.copyOf(this.kind, length);
+                this.powered = Arrays.copyOf(this.powered, length);
+                this.value = Arrays.copyOf(this.value, length);
+                this.prevValue = Arrays.copyOf(this.prevValue, length);
+                this.chance = Arrays.copyOf(this.chance, length);
+                this.duration = Arrays.copyOf(this.duration, length);
+                this.fadeFrom = Arrays.copyOf(this.fadeFrom, length);
+                this.fadeStart = Arrays.copyOf(this.fadeStart, length);
+            }
+            final int i = this.count++;
+            this.kind[i] = kind;
+            this.powered[i] = true;
+            this.value[i] = this.prevValue[i] = this.chance[i] = this.fadeFrom[i] = 0.0F;
+            this.duration[i] = 0;
+            this.fadeStart[i] = Double.NEGATIVE_INFINITY;
+            return i;
+        }
+
+        void copy(final int from, final Cells dest, final int to) {
+            dest.kind[to] = this.kind[from];
+            dest.powered[to] = this.powered[from];
+            dest.value[to] = this.value[from];
+            dest.prevValue[to] = this.prevValue[from];
+            dest.chance[to] = this.chance[from];
+            dest.duration[to] = this.duration[from];
+            dest.fadeFrom[to] = this.fadeFrom[from];
+            dest.fadeStart[to] = this.fadeStart[from];
+        }
+    }
+}
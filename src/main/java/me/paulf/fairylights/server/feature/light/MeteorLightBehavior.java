@@ -8,8 +8,6 @@ public class MeteorLightBehavior implements ColorLightBehavior {
 
     private final TwinkleLogic logic = new TwinkleLogic(0.02F, 100);
 
-    private boolean powered = true;
-
     public MeteorLightBehavior(final ColorLightBehavior color) {
         this.color = color;
     }
@@ -31,13 +29,29 @@ public class MeteorLightBehavior implements ColorLightBehavior {
 
     @Override
     public void power(final boolean powered, final boolean now, final Light<?> light) {
-        this.powered = powered;
+        this.logic.power(powered);
         this.color.power(powered, now, light);
     }
 
+    @Override
+    public void setSeed(final long seed) {
+        this.logic.setSeed(seed);
+        this.color.setSeed(seed);
+    }
+
+    @Override
+    public void bind(final LightStates states) {
+        this.logic.bind(states);
+        this.color.bind(states);
+    }
+
+    @Override
+    public boolean hasServerState() {
+        return this.color.hasServerState();
+    }
+
     @Override
     public void tick(final Level world, final Vec3 origin, final Light<?> light) {
-        this.logic.tick(world.random, this.powered);
         this.color.tick(world, origin, light);
     }
 
@@ -31,6 +31,30 @@ public class MultiLightBehavior implements LightBehavior {
         this.fallback.power(powered, now, light);
     }
 
+    @Override
+    public void setSeed(final long seed) {
+        for (int n = 0; n < this.lights.size(); n++) {
+            this.lights.get(n).setSeed(LightClock.seed(seed, n));
+        }
+    }
+
+    @Override
+    public void bind(final LightStates states) {
+        for (final StandardLightBehavior behavior : this.lights) {
+            behavior.bind(states);
+        }
+    }
+
+    @Override
+    public boolean hasServerState() {
+        for (final StandardLightBehavior behavior : this.lights) {
+            if (behavior.hasServerState()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void tick(final Level world, final Vec3 origin, final Light<?> light) {
         for (final StandardLightBehavior behavior : this.lights) {
@@ -0,0 +1,96 @@
+package me.paulf.fairylights.server.feature.light;
+
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.Vec3;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Particles of lights queued on the client over ticks and spawned at the start
+ * of the next frame up to a budget, nearest the camera first, so that large
+ * displays of torches and lanterns or jingles along long strands cannot flood
+ * the particle engine.
+ */
+public final class ParticleBudget {
+    private static final int STRIDE = 6;
+
+    private static final List<ParticleOptions> PARTICLES = new ArrayList<>();
+
+    private static double[] values = new double[STRIDE * 64];
+
+    private static double[] distances = new double[64];
+
+    private static int[] order = new int[64];
+
+    @Nullable
+    private static Level level;
+
+    private ParticleBudget() {}
+
+    public static void add(final Level world, final ParticleOptions particle, final double x, final double y, final double z, final double vx, final double vy, final double vz) {
+        if (!world.isClientSide()) {
+            return;
+        }
+        if (world != level) {
+            clear();
+            level = world;
+        }
+        final int n = PARTICLES.size();
+        if ((n + 1) * STRIDE > values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        final int o = n * STRIDE;
+        values[o] = x;
+        values[o + 1] = y;
+        values[o + 2] = z;
+        values[o + 3] = vx;
+        values[o + 4] = vy;
+        values[o + 5] = vz;
+        PARTICLES.add(particle);
+    }
+
+    public static void flush(final Level world, final Vec3 eye, final int budget) {
+        final int count = PARTICLES.size();
+        if (count == 0) {
+            return;
+        }
+        if (world == level) {
+            if (count <= budget) {
+                for (int i = 0; i < count; i++) {
+                    spawn(world, i);
+                }
+            } else if (budget > 0) {
+                if (count > order.length) {
+                    order = new int[Math.max(count, order.length * 2)];
+                    distances = new double[order.length];
+                }
+                for (int i = 0; i < count; i++) {
+                    final int o = i * STRIDE;
+                    distances[i] = eye.distanceToSqr(values[o], values[o + 1], values[o + 2]);
+                    order[i] = i;
+                }
+                final double[] d = distances;
+                IntArrays.quickSort(order, 0, count, (a, b) -> Double.compare(d[a], d[b]));
+                for (int i = 0; i < budget; i++) {
+                    spawn(world, order[i]);
+                }
+            }
+        }
+        clear();
+    }
+
+    public static void clear() {
+        PARTICLES.clear();
+        level = null;
+    }
+
+    private static void spawn(final Level world, final int i) {
+        final int o = i * STRIDE;
+        world.addParticle(PARTICLES.get(i), values[o], values[o + 1], values[o + 2], values[o + 3], values[o + 4], values[o + 5]);
+    }
+}
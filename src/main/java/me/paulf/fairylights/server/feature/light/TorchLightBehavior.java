@@ -5,14 +5,14 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.Vec3;
 
 public class TorchLightBehavior implements BrightnessLightBehavior {
-    private final double offset;
+    private final Vec3 flame;
 
     private float value = 1.0F;
 
     private boolean powered = true;
 
     public TorchLightBehavior(final double offset) {
-        this.offset = offset;
+        this.flame = new Vec3(0.0D, -offset, 0.0D);
     }
 
     @Override
@@ -40,12 +40,12 @@ public class TorchLightBehavior implements BrightnessLightBehavior {
 
     private void createParticles(final Level world, final Vec3 origin, final Light<?> light) {
         if (this.powered) {
-            final Vec3 p = light.getTransformedPoint(origin, new Vec3(0.0D, -this.offset, 0.0D));
+            final Vec3 p = light.getTransformedPoint(origin, this.flame);
             final double x = p.x();
             final double y = p.y();
             final double z = p.z();
-            world.addParticle(ParticleTypes.SMOKE, x, y, z, 0.0D, 0.0D, 0.0D);
-            world.addParticle(ParticleTypes.FLAME, x, y, z, 0.0D, 0.0D, 0.0D);
+            ParticleBudget.add(world, ParticleTypes.SMOKE, x, y, z, 0.0D, 0.0D, 0.0D);
+            ParticleBudget.add(world, ParticleTypes.FLAME, x, y, z, 0.0D, 0.0D, 0.0D);
         }
     }
 }
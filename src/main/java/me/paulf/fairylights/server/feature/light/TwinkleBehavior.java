@@ -12,15 +12,13 @@ public class TwinkleBehavior implements BrightnessLightBehavior {
 
     private final TwinkleLogic logic;
 
-    private boolean powered = true;
-
     public TwinkleBehavior(final float chance, final int duration) {
         this.logic = new TwinkleLogic(chance, duration);
     }
 
     @Override
     public float getBrightness(final float delta) {
-        if (this.powered) {
+        if (this.logic.isPowered()) {
             final float x = this.logic.get(delta);
             return x < 0.25F ? 1.0F - EASE_IN_OUT.eval(x / 0.25F) : EASE_IN_OUT.eval(FLMth.transform(x, 0.25F, 1.0F, 0.0F, 1.0F));
         }
@@ -29,14 +27,22 @@ public class TwinkleBehavior implements BrightnessLightBehavior {
 
     @Override
     public void power(final boolean powered, final boolean now, final Light<?> light) {
-        this.powered = powered;
+        this.logic.power(powered);
+    }
+
+    @Override
+    public void setSeed(final long seed) {
+        this.logic.setSeed(seed);
     }
 
     @Override
-    public void tick(final Level world, final Vec3 origin, final Light<?> light) {
-        this.logic.tick(world.random, this.powered);
+    public void bind(final LightStates states) {
+        this.logic.bind(states);
     }
 
+    @Override
+    public void tick(final Level world, final Vec3 origin, final Light<?> light) {}
+
     public static boolean exists(final ItemStack stack) {
         final CompoundTag tag = stack.getTag();
         return tag != null && tag.getBoolean("twinkle");
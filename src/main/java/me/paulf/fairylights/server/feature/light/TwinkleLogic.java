@@ -1,31 +1,57 @@
 package me.paulf.fairylights.server.feature.light;
 
 import net.minecraft.util.Mth;
-import net.minecraft.util.RandomSource;
-
-import java.util.Random;
 
 public class TwinkleLogic {
     private final float chance;
 
     private final int duration;
 
-    private int time = -1;
+    // mean ticks between twinkles, each period holds one twinkle starting at a hashed offset within it
+    private final int gap;
+
+    private long seed;
+
+    // the strand whose cell holds the twinkle time, bound by the light this twinkles for
+    private LightStates states;
 
-    private int prevTime = -1;
+    private int cell;
 
     public TwinkleLogic(final float chance, final int duration) {
         this.chance = chance;
         this.duration = duration;
+        this.gap = Math.max(1, Math.round(1.0F / chance));
+    }
+
+    public void setSeed(final long seed) {
+        this.seed = seed;
+    }
+
+    public void bind(final LightStates states) {
+        this.cell = states.bindTwinkle(this.states, this.cell, this.chance, this.duration);
+        this.states = states;
     }
 
     public float get(final float delta) {
-        return this.time == -1 ? 0.0F : Mth.lerp(delta, this.prevTime, this.time) / this.duration;
+        final LightClock clock = this.states.getClock();
+        if (clock.isDeterministic()) {
+            return this.isPowered() ? this.get(clock.getTime()) : 0.0F;
+        }
+        return this.states.getValue(this.cell) == -1.0F ? 0.0F : this.states.getValue(this.cell, delta) / this.duration;
+    }
+
+    private float get(final double time) {
+        final int period = this.duration + this.gap;
+        final long cycle = Mth.lfloor(time / period);
+        final double t = time - cycle * period - (int) (LightClock.hash(this.seed, cycle) * this.gap);
+        return t >= 0.0D && t < this.duration ? (float) (t / this.duration) : 0.0F;
+    }
+
+    public boolean isPowered() {
+        return this.states.isPowered(this.cell);
     }
 
-    public void tick(final RandomSource rng, final boolean powered) {
-        this.prevTime = this.time;
-        if (this.time != -1 || rng.nextFloat() < this.chance) this.time++;
-        if (this.time >= this.duration || !powered) this.time = -1;
+    public void power(final boolean powered) {
+        this.states.setPowered(this.cell, powered);
     }
 }
@@ -22,6 +22,8 @@ public final class InteractionConnectionMessage extends ConnectionMessage {
 
     private static final float REACH = 6 * 6;
 
+    private static final double HIT_TOLERANCE = 0.5D;
+
     private PlayerAction type;
 
     private Vec3 hit;
@@ -67,7 +69,8 @@ public final class InteractionConnectionMessage extends ConnectionMessage {
             getConnection(message, c -> true, player.level()).ifPresent(connection -> {
                 if (connection.isModifiable(player) &&
                     player.distanceToSqr(Vec3.atLowerCornerOf(connection.getFastener().getPos())) < RANGE &&
-                    player.distanceToSqr(message.hit.x, message.hit.y, message.hit.z) < REACH
+                    player.distanceToSqr(message.hit.x, message.hit.y, message.hit.z) < REACH &&
+                    connection.getCollision().contains(message.hit, message.featureType, message.featureId, HIT_TOLERANCE)
                 ) {
                     if (message.type == PlayerAction.ATTACK) {
                         connection.disconnect(player, message.hit);